@@ -0,0 +1,277 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.google.gson.JsonElement;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.onap.aai.config.SpringContextAware;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.logging.ErrorLogHelper;
+import org.onap.aai.rest.BulkConsumer;
+import org.onap.aai.rest.BulkProcessConsumer;
+import org.onap.aai.rest.bulk.BulkHttpHeaders;
+import org.onap.aai.rest.bulk.BulkTransactionReader;
+import org.onap.aai.rest.bulk.BulkUriInfo;
+import org.onap.aai.setup.SchemaVersion;
+import org.onap.aai.setup.SchemaVersions;
+import org.onap.aai.util.AAISystemExitUtil;
+import org.onap.aai.util.PositiveNumValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Loads a folder of bulk process payloads in process, without a http round trip per file.
+ *
+ * The files are processed in the order of their version numbers (as listed by ls -v), one after another,
+ * while the following files are already being parsed. The transactions of a file are sent through the
+ * bulk process logic with the configured parallelism and commit batching, and the result of each file
+ * is written as &lt;file name without .json&gt;.YYYYMMDDhhmmss.results.json, like the bulkprocess.sh script does.
+ */
+public class BulkLoadTool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkLoadTool.class);
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern FROM_APP_ID = Pattern.compile("[a-zA-Z0-9]+-[a-zA-Z0-9]+");
+
+    private final BulkConsumer bulkConsumer;
+    private final SchemaVersion version;
+
+    public BulkLoadTool(BulkConsumer bulkConsumer, SchemaVersion version) {
+        this.bulkConsumer = bulkConsumer;
+        this.version = version;
+    }
+
+    public static void main(String[] args) throws AAIException {
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        try {
+            context.scan("org.onap.aai.config", "org.onap.aai.setup");
+            context.refresh();
+        } catch (Exception e) {
+            AAIException aai = null;
+            if (e.getCause() instanceof AAIException) {
+                aai = (AAIException) e.getCause();
+            } else {
+                aai = ResourcesApp.schemaServiceExceptionTranslator(e);
+            }
+            LOGGER.error("Problems starting the Bulk Load Tool due to {}", aai.getMessage());
+            ErrorLogHelper.logException(aai);
+            throw aai;
+        }
+
+        BulkLoadArgs cArgs = new BulkLoadArgs();
+        JCommander jCommander = new JCommander(cArgs);
+        jCommander.setProgramName(BulkLoadTool.class.getSimpleName());
+        jCommander.parse(args);
+
+        SchemaVersions schemaVersions = (SchemaVersions) SpringContextAware.getBean("schemaVersions");
+        SchemaVersion version =
+                cArgs.version == null ? schemaVersions.getDefaultVersion() : new SchemaVersion(cArgs.version);
+
+        int exitCode = 0;
+        try {
+            new BulkLoadTool(new BulkProcessConsumer(), version).run(cArgs);
+        } catch (Exception e) {
+            LOGGER.error("Bulk load of {} failed", cArgs.inputFolder, e);
+            exitCode = 1;
+        }
+        AAISystemExitUtil.systemExitCloseAAIGraph(exitCode);
+    }
+
+    public void run(BulkLoadArgs cArgs) throws IOException, InterruptedException {
+        if (!FROM_APP_ID.matcher(cArgs.fromAppId).matches()) {
+            throw new IllegalArgumentException("fromAppId doesn't match the following regex " + FROM_APP_ID);
+        }
+        File inputFolder = new File(cArgs.inputFolder);
+        if (!inputFolder.isDirectory()) {
+            throw new IOException("Input folder " + cArgs.inputFolder + " could not be found.");
+        }
+        File outputFolder = new File(cArgs.outputFolder);
+        Files.createDirectories(outputFolder.toPath());
+
+        File[] found = inputFolder.listFiles(File::isFile);
+        List<File> files = found == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(found));
+        files.sort(versionOrder());
+
+        Map<String, String> requestHeaders = new HashMap<>();
+        requestHeaders.put("X-FromAppId", cArgs.fromAppId);
+        requestHeaders.put("X-TransactionId", cArgs.transId == null ? UUID.randomUUID().toString() : cArgs.transId);
+        HttpHeaders headers = new BulkHttpHeaders(requestHeaders);
+        UriInfo info = new BulkUriInfo();
+
+        int parseThreads = Integer.parseInt(cArgs.parseThreads);
+        int threads = Integer.parseInt(cArgs.threads);
+        int batchSize = Integer.parseInt(cArgs.batchSize);
+        long startTime = System.currentTimeMillis();
+
+        ExecutorService parser = Executors.newFixedThreadPool(parseThreads);
+        try {
+            // parse ahead of the file being loaded, but only a few files so the heap stays bounded
+            Deque<Future<List<JsonElement>>> parsed = new ArrayDeque<>();
+            int next = 0;
+            for (File file : files) {
+                while (next < files.size() && parsed.size() < parseThreads * 2) {
+                    File toParse = files.get(next++);
+                    parsed.add(parser.submit(() -> parse(toParse)));
+                }
+                String result;
+                try {
+                    List<JsonElement> transactions = parsed.poll().get();
+                    result = bulkConsumer.processBatches(transactions, batchSize, threads, version, headers, info);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    LOGGER.error("Loading {} failed: {}", file.getName(), cause.getMessage());
+                    result = bulkConsumer.generateErrorPayload(cause, headers, info);
+                }
+                File output = new File(outputFolder, resultFileName(file));
+                Files.write(output.toPath(), result.getBytes(StandardCharsets.UTF_8));
+                LOGGER.info("Loaded {}, results written to {}", file.getName(), output.getPath());
+            }
+        } finally {
+            parser.shutdownNow();
+        }
+        LOGGER.info("Loaded {} files in {} seconds", files.size(), (System.currentTimeMillis() - startTime) / 1000.0);
+    }
+
+    private List<JsonElement> parse(File file) throws AAIException, IOException {
+        List<JsonElement> transactions = new ArrayList<>();
+        try (InputStream in = new FileInputStream(file);
+                BulkTransactionReader reader = new BulkTransactionReader(in, "bulk process")) {
+            JsonElement transaction;
+            while ((transaction = reader.next()) != null) {
+                transactions.add(transaction);
+            }
+        }
+        if (transactions.isEmpty()) {
+            throw new AAIException("AAI_6118", "payload had no objects to operate on");
+        }
+        return transactions;
+    }
+
+    private static String resultFileName(File file) {
+        String name = file.getName().replace(".json", "");
+        return name + "." + new SimpleDateFormat("yyyyMMddHHmmss").format(new Date()) + ".results.json";
+    }
+
+    /**
+     * Orders file names like ls -v does, so that cloudRegion-2.json comes before cloudRegion-10.json.
+     *
+     * @return the comparator
+     */
+    static Comparator<File> versionOrder() {
+        return (first, second) -> compareVersions(first.getName(), second.getName());
+    }
+
+    static int compareVersions(String first, String second) {
+        Matcher firstNumbers = NUMBER.matcher(first);
+        Matcher secondNumbers = NUMBER.matcher(second);
+        int firstPos = 0;
+        int secondPos = 0;
+        while (firstNumbers.find(firstPos) && secondNumbers.find(secondPos)) {
+            int text = first.substring(firstPos, firstNumbers.start())
+                    .compareTo(second.substring(secondPos, secondNumbers.start()));
+            if (text != 0) {
+                return text;
+            }
+            String firstNumber = firstNumbers.group().replaceFirst("^0+(?=\\d)", "");
+            String secondNumber = secondNumbers.group().replaceFirst("^0+(?=\\d)", "");
+            int number = firstNumber.length() != secondNumber.length()
+                    ? Integer.compare(firstNumber.length(), secondNumber.length())
+                    : firstNumber.compareTo(secondNumber);
+            if (number != 0) {
+                return number;
+            }
+            firstPos = firstNumbers.end();
+            secondPos = secondNumbers.end();
+        }
+        return first.substring(firstPos).compareTo(second.substring(secondPos));
+    }
+}
+
+
+class BulkLoadArgs {
+
+    @Parameter(names = "-inputFolder", description = "folder with the bulk process payloads to load", required = true)
+    public String inputFolder;
+
+    @Parameter(names = "-fromAppId", description = "X-FromAppId used for the load", required = true)
+    public String fromAppId;
+
+    @Parameter(names = "-transId", description = "X-TransactionId used for the load, generated when missing")
+    public String transId;
+
+    @Parameter(names = "-outputFolder", description = "folder the results files are written to")
+    public String outputFolder = "/tmp";
+
+    @Parameter(names = "-version", description = "schema version of the payloads, the default version when missing")
+    public String version;
+
+    @Parameter(
+            names = "-threads",
+            description = "how many batches of a file are loaded at once",
+            validateWith = PositiveNumValidator.class)
+    public String threads = "1";
+
+    @Parameter(
+            names = "-batchSize",
+            description = "how many transactions are committed together",
+            validateWith = PositiveNumValidator.class)
+    public String batchSize = "1";
+
+    @Parameter(
+            names = "-parseThreads",
+            description = "how many files are parsed at once ahead of the file being loaded",
+            validateWith = PositiveNumValidator.class)
+    public String parseThreads = "2";
+
+}
@@ -0,0 +1,510 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.onap.aai.config.SpringContextAware;
+import org.onap.aai.db.props.AAIProperties;
+import org.onap.aai.dbmap.AAIGraph;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.introspection.Introspector;
+import org.onap.aai.introspection.Loader;
+import org.onap.aai.introspection.LoaderFactory;
+import org.onap.aai.introspection.ModelType;
+import org.onap.aai.logging.ErrorLogHelper;
+import org.onap.aai.schema.enums.ObjectMetadata;
+import org.onap.aai.serialization.db.EdgeSerializer;
+import org.onap.aai.setup.SchemaVersion;
+import org.onap.aai.setup.SchemaVersions;
+import org.onap.aai.util.AAISystemExitUtil;
+import org.onap.aai.util.PositiveNumValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Generates a synthetic graph for load tests.
+ *
+ * Each -tree option describes a chain of node types with the number of children per parent,
+ * for instance cloud-region:2,tenant:10,vserver:20,l-interface:2 creates 2 cloud-regions with
+ * 10 tenants each, 20 vservers per tenant and 2 l-interfaces per vserver. The tree edges and the
+ * -cousin edges (from-type:to-type:edges per node) are created through the {@link EdgeSerializer},
+ * so they follow the edge rules, the required properties are taken from the OXM through the {@link Loader}.
+ *
+ * Key values are derived from the position of a node in its tree and all other values from the seed,
+ * so runs with the same options produce the same graph. The nodes are written in parallel batches.
+ */
+public class GraphGeneratorTool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphGeneratorTool.class);
+
+    private static final String SOURCE_OF_TRUTH = "GraphGeneratorTool";
+
+    private final LoaderFactory loaderFactory;
+    private final SchemaVersions schemaVersions;
+    private final EdgeSerializer edgeSerializer;
+
+    private final AtomicLong nodesAdded = new AtomicLong();
+    private final AtomicLong edgesAdded = new AtomicLong();
+
+    public GraphGeneratorTool(LoaderFactory loaderFactory, SchemaVersions schemaVersions,
+            EdgeSerializer edgeSerializer) {
+        this.loaderFactory = loaderFactory;
+        this.schemaVersions = schemaVersions;
+        this.edgeSerializer = edgeSerializer;
+    }
+
+    public static void main(String[] args) throws AAIException {
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        try {
+            context.scan("org.onap.aai.config", "org.onap.aai.setup");
+            context.refresh();
+        } catch (Exception e) {
+            AAIException aai = null;
+            if (e.getCause() instanceof AAIException) {
+                aai = (AAIException) e.getCause();
+            } else {
+                aai = ResourcesApp.schemaServiceExceptionTranslator(e);
+            }
+            LOGGER.error("Problems starting the Graph Generator Tool due to {}", aai.getMessage());
+            ErrorLogHelper.logException(aai);
+            throw aai;
+        }
+
+        LoaderFactory loaderFactory = context.getBean(LoaderFactory.class);
+        SchemaVersions schemaVersions = (SchemaVersions) SpringContextAware.getBean("schemaVersions");
+        EdgeSerializer edgeSerializer = context.getBean(EdgeSerializer.class);
+
+        int exitCode = 0;
+        try {
+            new GraphGeneratorTool(loaderFactory, schemaVersions, edgeSerializer)
+                    .run(AAIGraph.getInstance().getGraph(), args);
+        } catch (Exception e) {
+            LOGGER.error("Generating the graph failed", e);
+            exitCode = 1;
+        }
+        AAISystemExitUtil.systemExitCloseAAIGraph(exitCode);
+    }
+
+    public void run(JanusGraph janusGraph, String[] args) throws AAIException, InterruptedException {
+        GraphGeneratorArgs cArgs = new GraphGeneratorArgs();
+        JCommander jCommander = new JCommander(cArgs);
+        jCommander.setProgramName(GraphGeneratorTool.class.getSimpleName());
+        jCommander.parse(args);
+
+        SchemaVersion version =
+                cArgs.version == null ? schemaVersions.getDefaultVersion() : new SchemaVersion(cArgs.version);
+        Loader loader = loaderFactory.createLoaderForVersion(ModelType.MOXY, version);
+        long seed = Long.parseLong(cArgs.seed);
+        int threads = Integer.parseInt(cArgs.threads);
+        int batchSize = Integer.parseInt(cArgs.batchSize);
+        long startTime = System.currentTimeMillis();
+
+        Map<String, Level> levels = new HashMap<>();
+        List<List<Level>> trees = new ArrayList<>();
+        for (String spec : cArgs.trees) {
+            trees.add(parseTree(spec, loader, levels));
+        }
+        List<Cousin> cousins = new ArrayList<>();
+        for (String spec : cArgs.cousins) {
+            cousins.add(parseCousin(spec, levels));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < trees.size(); t++) {
+                addTree(janusGraph, executor, loader, trees.get(t), t, seed, threads, batchSize, cArgs.prefix);
+            }
+            for (int c = 0; c < cousins.size(); c++) {
+                addCousins(janusGraph, executor, cousins.get(c), c, seed, threads, batchSize);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        System.out.println("Nodes added: " + nodesAdded.get() + ", edges added: " + edgesAdded.get()
+                + ", Total Time: " + ((System.currentTimeMillis() - startTime) / 1000.0) + "seconds");
+    }
+
+    private List<Level> parseTree(String spec, Loader loader, Map<String, Level> levels) throws AAIException {
+        List<Level> tree = new ArrayList<>();
+        long count = 1;
+        for (String part : spec.split(",")) {
+            String[] tokens = part.trim().split(":");
+            if (tokens.length != 2) {
+                throw new IllegalArgumentException("tree level " + part + " is not of the form node-type:count");
+            }
+            String nodeType = tokens[0].trim();
+            int fanOut = Integer.parseInt(tokens[1].trim());
+            count *= fanOut;
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("too many " + nodeType + " nodes in tree " + spec);
+            }
+            if (levels.containsKey(nodeType)) {
+                throw new IllegalArgumentException("node type " + nodeType + " is used more than once");
+            }
+            Introspector obj = loader.introspectorFromName(nodeType);
+            if (tree.isEmpty() && obj.getMetadata(ObjectMetadata.NAMESPACE) == null) {
+                throw new IllegalArgumentException("tree " + spec + " has to start with a top level node type");
+            }
+            Level level = new Level(nodeType, fanOut, (int) count, obj);
+            levels.put(nodeType, level);
+            tree.add(level);
+        }
+        return tree;
+    }
+
+    private Cousin parseCousin(String spec, Map<String, Level> levels) {
+        String[] tokens = spec.trim().split(":");
+        if (tokens.length != 3 || !levels.containsKey(tokens[0]) || !levels.containsKey(tokens[1])) {
+            throw new IllegalArgumentException(
+                    "cousin " + spec + " is not of the form from-type:to-type:count with generated node types");
+        }
+        return new Cousin(levels.get(tokens[0]), levels.get(tokens[1]), Integer.parseInt(tokens[2]));
+    }
+
+    /**
+     * Adds the nodes of a tree. The upper levels are added level by level until a level has enough
+     * nodes to keep every thread busy, the subtrees below that level are then added in parallel.
+     */
+    private void addTree(JanusGraph janusGraph, ExecutorService executor, Loader loader, List<Level> tree,
+            int treeIndex, long seed, int threads, int batchSize, String prefix)
+            throws AAIException, InterruptedException {
+        int splitDepth = 0;
+        while (splitDepth < tree.size() - 1 && tree.get(splitDepth).count < threads) {
+            splitDepth++;
+        }
+
+        List<String> parentUris = new ArrayList<>();
+        Writer upper = new Writer(janusGraph, batchSize);
+        try {
+            for (int depth = 0; depth < splitDepth; depth++) {
+                Level level = tree.get(depth);
+                List<String> uris = new ArrayList<>(level.count);
+                for (int ordinal = 0; ordinal < level.count; ordinal++) {
+                    String parentUri = depth == 0 ? null : parentUris.get(ordinal / level.fanOut);
+                    uris.add(addNode(upper, loader, tree, depth, ordinal, parentUri,
+                            random(seed, treeIndex, depth, ordinal), prefix, false));
+                }
+                parentUris = uris;
+            }
+            upper.commit();
+        } catch (AAIException | RuntimeException e) {
+            upper.rollback();
+            throw e;
+        }
+
+        Level split = tree.get(splitDepth);
+        List<String> splitParentUris = parentUris;
+        int depth = splitDepth;
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int part = 0; part < threads; part++) {
+            int from = (int) ((long) split.count * part / threads);
+            int to = (int) ((long) split.count * (part + 1) / threads);
+            tasks.add(executor.submit(() -> {
+                Writer writer = new Writer(janusGraph, batchSize);
+                try {
+                    for (int ordinal = from; ordinal < to; ordinal++) {
+                        String parentUri = depth == 0 ? null : splitParentUris.get(ordinal / split.fanOut);
+                        addNode(writer, loader, tree, depth, ordinal, parentUri,
+                                random(seed, treeIndex, depth, ordinal), prefix, true);
+                    }
+                    writer.commit();
+                } catch (AAIException | RuntimeException e) {
+                    writer.rollback();
+                    throw e;
+                }
+                return null;
+            }));
+        }
+        waitFor(tasks);
+    }
+
+    /**
+     * Adds a node, and when recursive is set its whole subtree.
+     *
+     * @return the aai-uri of the node
+     */
+    private String addNode(Writer writer, Loader loader, List<Level> tree, int depth, int ordinal,
+            String parentUri, Random random, String prefix, boolean recursive) throws AAIException {
+        Level level = tree.get(depth);
+        Introspector obj = loader.introspectorFromName(level.nodeType);
+        Set<String> properties = new LinkedHashSet<>(obj.getKeys());
+        properties.addAll(obj.getRequiredProperties());
+
+        Map<String, Object> values = new HashMap<>();
+        for (String property : properties) {
+            Object value = obj.getKeys().contains(property) ? prefix + "-" + level.nodeType + "-" + ordinal
+                    : randomValue(level.template.getType(property), random, prefix);
+            obj.setValue(property, value);
+            values.put(property, value);
+        }
+        String uri;
+        try {
+            uri = (parentUri == null ? "/" + obj.getMetadata(ObjectMetadata.NAMESPACE) : parentUri) + obj.getURI();
+        } catch (UnsupportedEncodingException e) {
+            throw new AAIException("AAI_3000", "uri of " + level.nodeType + " could not be built");
+        }
+
+        GraphTraversalSource g = writer.g();
+        long now = System.currentTimeMillis();
+        Vertex v = g.addV(level.nodeType).next();
+        v.property(AAIProperties.NODE_TYPE, level.nodeType);
+        v.property(AAIProperties.AAI_URI, uri);
+        // the prefix keeps the ids of graphs generated with the same seed apart
+        v.property(AAIProperties.AAI_UUID,
+                UUID.nameUUIDFromBytes((prefix + "-" + random.nextLong()).getBytes(StandardCharsets.UTF_8)).toString());
+        v.property(AAIProperties.SOURCE_OF_TRUTH, SOURCE_OF_TRUTH);
+        v.property(AAIProperties.LAST_MOD_SOURCE_OF_TRUTH, SOURCE_OF_TRUTH);
+        v.property(AAIProperties.CREATED_TS, now);
+        v.property(AAIProperties.LAST_MOD_TS, now);
+        v.property(AAIProperties.RESOURCE_VERSION, Long.toString(now));
+        values.forEach(v::property);
+
+        if (depth > 0) {
+            Vertex parent = writer.load(tree.get(depth - 1).ids[ordinal / level.fanOut]);
+            edgeSerializer.addTreeEdge(g, parent, v);
+            edgesAdded.incrementAndGet();
+        }
+        level.ids[ordinal] = v.id();
+        writer.added(v);
+        nodesAdded.incrementAndGet();
+
+        if (recursive && depth + 1 < tree.size()) {
+            Level children = tree.get(depth + 1);
+            for (int child = 0; child < children.fanOut; child++) {
+                addNode(writer, loader, tree, depth + 1, ordinal * children.fanOut + child, uri, random, prefix,
+                        true);
+            }
+        }
+        return uri;
+    }
+
+    private void addCousins(JanusGraph janusGraph, ExecutorService executor, Cousin cousin, int cousinIndex,
+            long seed, int threads, int batchSize) throws InterruptedException {
+        int edges = Math.min(cousin.count, cousin.to.count);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int part = 0; part < threads; part++) {
+            int from = (int) ((long) cousin.from.count * part / threads);
+            int to = (int) ((long) cousin.from.count * (part + 1) / threads);
+            tasks.add(executor.submit(() -> {
+                Writer writer = new Writer(janusGraph, batchSize);
+                try {
+                    for (int ordinal = from; ordinal < to; ordinal++) {
+                        Random random = random(seed, -1 - cousinIndex, 0, ordinal);
+                        Set<Integer> targets = new LinkedHashSet<>();
+                        while (targets.size() < edges) {
+                            targets.add(random.nextInt(cousin.to.count));
+                        }
+                        Vertex out = writer.load(cousin.from.ids[ordinal]);
+                        for (int target : targets) {
+                            edgeSerializer.addEdge(writer.g(), out, writer.load(cousin.to.ids[target]));
+                            edgesAdded.incrementAndGet();
+                        }
+                        writer.added(out);
+                    }
+                    writer.commit();
+                } catch (AAIException | RuntimeException e) {
+                    writer.rollback();
+                    throw e;
+                }
+                return null;
+            }));
+        }
+        waitFor(tasks);
+    }
+
+    private void waitFor(List<Future<?>> tasks) throws InterruptedException {
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Generating the graph failed", e.getCause());
+        }
+    }
+
+    private static Object randomValue(String type, Random random, String prefix) {
+        if ("java.lang.Boolean".equals(type)) {
+            return random.nextBoolean();
+        } else if ("java.lang.Integer".equals(type)) {
+            return random.nextInt(1000);
+        } else if ("java.lang.Long".equals(type)) {
+            return (long) random.nextInt(1000);
+        }
+        return prefix + "-" + Long.toHexString(random.nextLong());
+    }
+
+    private static Random random(long seed, long... parts) {
+        long value = seed;
+        for (long part : parts) {
+            value = value * 1_000_003L + part;
+        }
+        return new Random(value);
+    }
+
+    private static class Level {
+
+        private final String nodeType;
+        private final int fanOut;
+        private final int count;
+        private final Introspector template;
+        private final Object[] ids;
+
+        private Level(String nodeType, int fanOut, int count, Introspector template) {
+            this.nodeType = nodeType;
+            this.fanOut = fanOut;
+            this.count = count;
+            this.template = template;
+            this.ids = new Object[count];
+        }
+    }
+
+    private static class Cousin {
+
+        private final Level from;
+        private final Level to;
+        private final int count;
+
+        private Cousin(Level from, Level to, int count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Writes to the graph in transactions of at most batchSize changes.
+     * Vertices of earlier transactions are loaded again by their id when needed,
+     * only the open transaction is rolled back on failures.
+     */
+    private class Writer {
+
+        private final JanusGraph janusGraph;
+        private final int batchSize;
+        private final Map<Object, Vertex> loaded = new HashMap<>();
+        private JanusGraphTransaction transaction;
+        private GraphTraversalSource g;
+        private int pending;
+
+        private Writer(JanusGraph janusGraph, int batchSize) {
+            this.janusGraph = janusGraph;
+            this.batchSize = batchSize;
+        }
+
+        private GraphTraversalSource g() {
+            if (transaction == null) {
+                transaction = janusGraph.newTransaction();
+                g = transaction.traversal();
+            }
+            return g;
+        }
+
+        private Vertex load(Object id) {
+            return loaded.computeIfAbsent(id, key -> g().V(key).next());
+        }
+
+        private void added(Vertex v) {
+            loaded.put(v.id(), v);
+            if (++pending >= batchSize) {
+                commit();
+            }
+        }
+
+        private void commit() {
+            if (transaction != null) {
+                transaction.commit();
+                transaction = null;
+                loaded.clear();
+                pending = 0;
+            }
+        }
+
+        private void rollback() {
+            if (transaction != null) {
+                transaction.rollback();
+                transaction = null;
+                loaded.clear();
+                pending = 0;
+            }
+        }
+    }
+}
+
+
+class GraphGeneratorArgs {
+
+    @Parameter(
+            names = "-tree",
+            description = "node types with their count per parent, e.g. cloud-region:2,tenant:10,vserver:20",
+            required = true)
+    public List<String> trees = new ArrayList<>();
+
+    @Parameter(
+            names = "-cousin",
+            description = "cousin edges between generated nodes as from-type:to-type:edges per node, e.g. vserver:pserver:1")
+    public List<String> cousins = new ArrayList<>();
+
+    @Parameter(names = "-seed", description = "seed of the generated values, runs with the same seed are identical")
+    public String seed = "1";
+
+    @Parameter(names = "-prefix", description = "prefix of the generated key values")
+    public String prefix = "gen";
+
+    @Parameter(names = "-version", description = "schema version of the nodes, the default version when missing")
+    public String version;
+
+    @Parameter(
+            names = "-threads",
+            description = "how many threads write to the graph",
+            validateWith = PositiveNumValidator.class)
+    public String threads = "1";
+
+    @Parameter(
+            names = "-batchSize",
+            description = "how many nodes are committed together",
+            validateWith = PositiveNumValidator.class)
+    public String batchSize = "1000";
+
+}
@@ -27,6 +27,11 @@ import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -62,7 +67,7 @@ public class IncreaseNodesTool {
     private LoaderFactory loaderFactory;
     private SchemaVersions schemaVersions;
     protected TransactionalGraphEngine engine;
-    Vertex parentVtx;
+    private volatile Object parentVtxId;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(IncreaseNodesTool.class);
 
@@ -99,8 +104,14 @@ public class IncreaseNodesTool {
         ApplicationContext ctx = (ApplicationContext) SpringContextAware.getApplicationContext();
         edgeSerializer = ctx.getBean(EdgeSerializer.class);
 
-        increaseNodesTool.run(janusGraph, args);
-        AAISystemExitUtil.systemExitCloseAAIGraph(0);
+        int exitCode = 0;
+        try {
+            increaseNodesTool.run(janusGraph, args);
+        } catch (Exception e) {
+            LOGGER.error("Adding the nodes failed", e);
+            exitCode = 1;
+        }
+        AAISystemExitUtil.systemExitCloseAAIGraph(exitCode);
 
     }
 
@@ -127,6 +138,10 @@ public class IncreaseNodesTool {
      * /network/pnfs/pnf/
      * /cloud-infrastructure/pservers/pserver/random-056fd6c4-7313-4fa0-b854-0d9983bdb0ab/p-interfaces/p-interface/
      *
+     * The nodes are split evenly over the writer threads, each thread commits its nodes in
+     * transactions of its own of at most batchSize nodes.
+     * A failure of a writer thread is rethrown once all threads are done.
+     *
      * @param
      * @param
      * @param cArgs
@@ -134,12 +149,67 @@ public class IncreaseNodesTool {
     public void addVertex(JanusGraph janusGraph, String nodeType, List<String> propList, CommandLineArgs cArgs) {
 
         long startTime = System.currentTimeMillis();
-        try (JanusGraphTransaction transaction = janusGraph.newTransaction()) {
+        int threads = (int) Math.min(Integer.parseInt(cArgs.threads), Math.max(1, nodeCount));
+        long batchSize = Long.parseLong(cArgs.batchSize);
+        if (batchSize <= 0) {
+            batchSize = Math.max(1, nodeCount);
+        }
+        Progress progress = new Progress(cArgs, startTime);
+        Throwable failure = null;
+
+        if (threads <= 1) {
+            addVertices(janusGraph, nodeType, propList, cArgs, 1, nodeCount, batchSize, progress);
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> writers = new ArrayList<>();
+                long perThread = (nodeCount + threads - 1) / threads;
+                for (long first = 1; first <= nodeCount; first += perThread) {
+                    long from = first;
+                    long to = Math.min(first + perThread - 1, nodeCount);
+                    long size = batchSize;
+                    writers.add(executor.submit(
+                            () -> addVertices(janusGraph, nodeType, propList, cArgs, from, to, size, progress)));
+                }
+                for (Future<?> writer : writers) {
+                    writer.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = e;
+            } catch (ExecutionException e) {
+                failure = e.getCause();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        long endTime = System.currentTimeMillis();
+        System.out.println("Nodes added: " + progress.added.get() + " of " + nodeCount + ", Total Time: "
+                + ((endTime - startTime) / 1000.0) + "seconds");
+        if (failure != null) {
+            throw new IllegalStateException("Writer thread failed", failure);
+        }
+    }
+
+    private void addVertices(JanusGraph janusGraph, String nodeType, List<String> propList, CommandLineArgs cArgs,
+            long first, long last, long batchSize, Progress progress) {
+        for (long start = first; start <= last; start += batchSize) {
+            addBatch(janusGraph, nodeType, propList, cArgs, start, Math.min(start + batchSize - 1, last), progress);
+        }
+    }
+
+    private void addBatch(JanusGraph janusGraph, String nodeType, List<String> propList, CommandLineArgs cArgs,
+            long first, long last, Progress progress) {
+
+        long startTime = System.currentTimeMillis();
+        try (JanusGraphTransaction transaction = newTransaction(janusGraph, cArgs)) {
             boolean success = true;
 
             try {
                 GraphTraversalSource g = transaction.traversal();
-                for (long i = 1; i <= nodeCount; i++) {
+                Vertex parent = null;
+                for (long i = first; i <= last; i++) {
                     String randomId = UUID.randomUUID().toString();
                     Vertex v = g.addV(nodeType).next();
 
@@ -153,45 +223,33 @@ public class IncreaseNodesTool {
                             continue;
                         }
                         v.property(propName, "random-" + randomId);
+                    }
+                    if (progress.perNode && !propList.isEmpty()) {
                         System.out.println("node " + i + " added " + propList.get(0) + ": " + "random-" + randomId);
                     }
 
                     if (cArgs.child.equals("true")) {
-
-                        if (parentVtx == null) {
-                            String[] uriTokens = cArgs.uri.split("/");
-                            String ParentNodeType = uriTokens[uriTokens.length - 4]; // parent node type
-                            String keyVal = uriTokens[uriTokens.length - 3]; // parent unique key
-                            Loader loader = loaderFactory.createLoaderForVersion(ModelType.MOXY,
-                                    schemaVersions.getDefaultVersion());
-                            if (loader != null) {
-                                Introspector objParent = loader.introspectorFromName(ParentNodeType);
-                                if (objParent != null) {
-                                    List<String> parentPropList = new ArrayList<String>();
-                                    parentPropList.addAll(objParent.getRequiredProperties());
-                                    if (parentPropList.size() > 0) {
-                                        System.out.println("parent node (" + ParentNodeType + ") key ("
-                                                + parentPropList.get(0) + " ) =" + keyVal);
-                                        parentVtx = g.V().has(parentPropList.get(0), keyVal).next();
-                                        edgeSerializer.addTreeEdgeIfPossible(g, parentVtx, v);
-                                    }
-                                }
-                            }
-
-                        } else {
-                            edgeSerializer.addTreeEdgeIfPossible(g, parentVtx, v);
+                        if (parent == null) {
+                            parent = getParentVertex(g, cArgs);
+                        }
+                        if (parent != null) {
+                            edgeSerializer.addTreeEdgeIfPossible(g, parent, v);
                         }
                     }
 
                 }
             } catch (Exception ex) {
                 success = false;
+                LOGGER.error("Adding nodes {} to {} failed: {}", first, last, ex.getMessage());
             } finally {
                 if (success) {
                     transaction.commit();
-                    System.out.println("Transaction Committed");
-                    long endTime = System.currentTimeMillis();
-                    System.out.println("Total Time: " + ((endTime - startTime) / 1000.0) + "seconds");
+                    progress.committed(last - first + 1);
+                    if (progress.perNode) {
+                        System.out.println("Transaction Committed");
+                        long endTime = System.currentTimeMillis();
+                        System.out.println("Total Time: " + ((endTime - startTime) / 1000.0) + "seconds");
+                    }
                 } else {
                     transaction.rollback();
                 }
@@ -199,6 +257,78 @@ public class IncreaseNodesTool {
         }
     }
 
+    private JanusGraphTransaction newTransaction(JanusGraph janusGraph, CommandLineArgs cArgs) {
+        if ("true".equals(cArgs.batchLoading)) {
+            // skips the consistency checks and locking, the generated nodes have random unique keys
+            return janusGraph.buildTransaction().enableBatchLoading().start();
+        }
+        return janusGraph.newTransaction();
+    }
+
+    /**
+     * Finds the parent node in the given transaction. The parent is looked up by its key once,
+     * later transactions load it by its vertex id.
+     */
+    private Vertex getParentVertex(GraphTraversalSource g, CommandLineArgs cArgs) throws AAIUnknownObjectException {
+        Object parentId = parentVtxId;
+        if (parentId != null) {
+            return g.V(parentId).next();
+        }
+        String[] uriTokens = cArgs.uri.split("/");
+        String ParentNodeType = uriTokens[uriTokens.length - 4]; // parent node type
+        String keyVal = uriTokens[uriTokens.length - 3]; // parent unique key
+        Loader loader = loaderFactory.createLoaderForVersion(ModelType.MOXY, schemaVersions.getDefaultVersion());
+        if (loader != null) {
+            Introspector objParent = loader.introspectorFromName(ParentNodeType);
+            if (objParent != null) {
+                List<String> parentPropList = new ArrayList<String>();
+                parentPropList.addAll(objParent.getRequiredProperties());
+                if (parentPropList.size() > 0) {
+                    System.out.println(
+                            "parent node (" + ParentNodeType + ") key (" + parentPropList.get(0) + " ) =" + keyVal);
+                    Vertex parent = g.V().has(parentPropList.get(0), keyVal).next();
+                    parentVtxId = parent.id();
+                    return parent;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counts the committed nodes and reports the progress as configured on the command line.
+     */
+    private static class Progress {
+
+        private final AtomicLong added = new AtomicLong();
+        private final long startTime;
+        private final long every;
+        private final boolean perNode;
+        private long nextReport;
+
+        private Progress(CommandLineArgs cArgs, long startTime) {
+            this.startTime = startTime;
+            boolean quiet = "true".equals(cArgs.quiet);
+            this.every = quiet ? 0 : Long.parseLong(cArgs.progressEvery);
+            this.perNode = !quiet && every <= 0;
+            this.nextReport = every;
+        }
+
+        private void committed(long count) {
+            long total = added.addAndGet(count);
+            if (every > 0) {
+                synchronized (this) {
+                    if (total >= nextReport) {
+                        nextReport = (total / every + 1) * every;
+                        double seconds = Math.max(1, System.currentTimeMillis() - startTime) / 1000.0;
+                        System.out.println(String.format("%d of %d nodes added, %.0f nodes/s", total, nodeCount,
+                                total / seconds));
+                    }
+                }
+            }
+        }
+    }
+
 }
 
 
@@ -220,4 +350,28 @@ class CommandLineArgs {
     @Parameter(names = "-child", description = "is this a child node", required = true)
     public String child;
 
+    @Parameter(
+            names = "-batchSize",
+            description = "how many nodes are committed together, all nodes in one transaction when missing")
+    public String batchSize = "0";
+
+    @Parameter(
+            names = "-threads",
+            description = "how many threads add nodes, each with transactions of its own",
+            validateWith = PositiveNumValidator.class)
+    public String threads = "1";
+
+    @Parameter(
+            names = "-progressEvery",
+            description = "report the progress every given number of nodes instead of a line per node")
+    public String progressEvery = "0";
+
+    @Parameter(names = "-quiet", description = "only report the total when true")
+    public String quiet = "false";
+
+    @Parameter(
+            names = "-batchLoading",
+            description = "use batch loading transactions, which skip consistency checks and locking, when true")
+    public String batchLoading = "false";
+
 }
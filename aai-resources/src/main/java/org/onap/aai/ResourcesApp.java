@@ -28,9 +28,12 @@ import org.onap.aai.aailog.logs.AaiDebugLog;
 import org.onap.aai.config.SpringContextAware;
 import org.onap.aai.dbmap.AAIGraph;
 import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.post.TransactionLogWriter;
 import org.onap.aai.logging.ErrorLogHelper;
 import org.onap.aai.nodes.NodeIngestor;
+import org.onap.aai.rest.bulk.BulkTransactionExecutor;
 import org.onap.aai.util.AAIConfig;
+import org.onap.aai.util.ResourcesConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -92,6 +95,9 @@ public class ResourcesApp {
 
     @PreDestroy
     public void cleanup() {
+        TransactionLogWriter.getInstance().shutdown();
+        BulkTransactionExecutor.getInstance().shutdown();
+        ResourcesConfig.shutdown();
         logger.info("Shutting down both realtime and cached connections");
         AAIGraph.getInstance().graphShutdown();
     }
@@ -40,4 +40,12 @@ public final class AAIHeaderProperties {
     public static final String AAI_REQUEST = "X-REQUEST";
 
     public static final String AAI_REQUEST_TS = "X-REQUEST-TS";
+
+    public static final String CONCURRENCY_PERMIT = "aai-concurrency-permit";
+
+    public static final String GRAPH_ACCESS_PERMIT = "aai-graph-access-permit";
+
+    public static final String COMPLETION_ACTIONS = "aai-completion-actions";
+
+    public static final String RETRY_AFTER = "Retry-After";
 }
@@ -24,13 +24,20 @@ package org.onap.aai.interceptors.post;
  * Response Filter order is done reverse sorted
  * so in the following case the first response filter would be
  * HEADER_MANIPULATION, RESPONSE_TRANS_LOGGING, RESET_LOGGING_CONTEXT,
- * and INVALID_RESPONSE_STATUS
+ * INVALID_RESPONSE_STATUS, CONCURRENCY_LIMIT and GRAPH_ACCESS.
+ * REQUEST_COMPLETION orders the listener that runs once the request has finished.
  */
 public final class AAIResponseFilterPriority {
 
     private AAIResponseFilterPriority() {
     }
 
+    public static final int REQUEST_COMPLETION = 100;
+
+    public static final int GRAPH_ACCESS = 400;
+
+    public static final int CONCURRENCY_LIMIT = 500;
+
     public static final int INVALID_RESPONSE_STATUS = 1000;
 
     public static final int RESET_LOGGING_CONTEXT = 2000;
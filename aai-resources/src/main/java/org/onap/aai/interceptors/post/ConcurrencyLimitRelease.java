@@ -0,0 +1,52 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import java.io.IOException;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+
+import org.onap.aai.interceptors.AAIContainerFilter;
+import org.onap.aai.interceptors.AAIHeaderProperties;
+import org.onap.aai.service.ConcurrencyLimitService;
+
+/**
+ * Records the response status on the concurrency permit acquired by the ConcurrencyLimitInterceptor,
+ * the status and the latency adapt the limit of the client once the permit is released.
+ * The permit is released by the {@link RequestCompletionListener} when the request has finished,
+ * after a streamed entity was written and also when the response filters never ran.
+ */
+@Priority(AAIResponseFilterPriority.CONCURRENCY_LIMIT)
+public class ConcurrencyLimitRelease extends AAIContainerFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+            throws IOException {
+
+        Object permit = requestContext.getProperty(AAIHeaderProperties.CONCURRENCY_PERMIT);
+        if (permit instanceof ConcurrencyLimitService.Permit) {
+            ((ConcurrencyLimitService.Permit) permit).setStatus(responseContext.getStatus());
+        }
+    }
+}
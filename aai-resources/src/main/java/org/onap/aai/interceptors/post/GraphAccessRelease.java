@@ -0,0 +1,68 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import java.io.IOException;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.onap.aai.interceptors.AAIContainerFilter;
+import org.onap.aai.interceptors.AAIHeaderProperties;
+import org.onap.aai.interceptors.GraphAccess;
+import org.onap.aai.service.GraphAccessLimiter;
+
+/**
+ * Releases the graph access permit of the GraphAccessInterceptor. A streamed entity still reads the graph
+ * while it is written, its permit is released once it has been written. A permit that is not released here
+ * is released when the request has finished.
+ */
+@GraphAccess
+@Priority(AAIResponseFilterPriority.GRAPH_ACCESS)
+public class GraphAccessRelease extends AAIContainerFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+            throws IOException {
+
+        Object property = requestContext.getProperty(AAIHeaderProperties.GRAPH_ACCESS_PERMIT);
+        if (!(property instanceof GraphAccessLimiter.Permit)) {
+            return;
+        }
+        GraphAccessLimiter.Permit permit = (GraphAccessLimiter.Permit) property;
+        Object entity = responseContext.getEntity();
+        if (entity instanceof StreamingOutput) {
+            StreamingOutput output = (StreamingOutput) entity;
+            responseContext.setEntity((StreamingOutput) out -> {
+                try {
+                    output.write(out);
+                } finally {
+                    permit.release();
+                }
+            });
+        } else {
+            permit.release();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.onap.aai.interceptors.AAIHeaderProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the actions registered with {@link #onCompletion(ContainerRequestContext, Runnable)} once a request
+ * has finished, whether its entity was written, never written as for a HEAD request or a response replaced
+ * by an exception mapper, or failed because the client went away.
+ * The actions have to be idempotent, as they usually also run right after a streamed entity is written.
+ * A streamed entity that is Closeable, like one that holds the transaction it reads in, is closed the same way.
+ */
+@Priority(AAIResponseFilterPriority.REQUEST_COMPLETION)
+public class RequestCompletionListener implements ApplicationEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestCompletionListener.class);
+
+    private static final RequestEventListener LISTENER = event -> {
+        if (event.getType() == RequestEvent.Type.RESP_FILTERS_START) {
+            // the filters may still replace the entity, so it is registered before they run
+            Object entity = event.getContainerResponse().getEntity();
+            if (entity instanceof StreamingOutput && entity instanceof Closeable) {
+                onCompletion(event.getContainerRequest(), () -> close((Closeable) entity));
+            }
+        } else if (event.getType() == RequestEvent.Type.FINISHED) {
+            complete(event.getContainerRequest());
+        }
+    };
+
+    /**
+     * Registers an action to run once the request has finished.
+     */
+    @SuppressWarnings("unchecked")
+    public static void onCompletion(ContainerRequestContext requestContext, Runnable action) {
+        Object actions = requestContext.getProperty(AAIHeaderProperties.COMPLETION_ACTIONS);
+        if (!(actions instanceof List)) {
+            actions = new ArrayList<Runnable>();
+            requestContext.setProperty(AAIHeaderProperties.COMPLETION_ACTIONS, actions);
+        }
+        ((List<Runnable>) actions).add(action);
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return LISTENER;
+    }
+
+    private static void close(Closeable entity) {
+        try {
+            entity.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void complete(ContainerRequest request) {
+        Object actions = request.getProperty(AAIHeaderProperties.COMPLETION_ACTIONS);
+        if (!(actions instanceof List)) {
+            return;
+        }
+        for (Runnable action : (List<Runnable>) actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Completion of request {} failed: {}", request.getRequestUri(), e.getMessage());
+            }
+        }
+    }
+}
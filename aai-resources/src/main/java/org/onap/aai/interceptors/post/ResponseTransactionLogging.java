@@ -20,11 +20,8 @@
 
 package org.onap.aai.interceptors.post;
 
-import com.google.gson.JsonObject;
-
 import java.io.IOException;
 import java.util.Objects;
-import java.util.Optional;
 
 import jakarta.annotation.Priority;
 import jakarta.servlet.http.HttpServletResponse;
@@ -33,11 +30,9 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerResponseContext;
 import jakarta.ws.rs.container.ContainerResponseFilter;
 
-import org.onap.aai.exceptions.AAIException;
 import org.onap.aai.interceptors.AAIContainerFilter;
 import org.onap.aai.interceptors.AAIHeaderProperties;
-import org.onap.aai.logging.ErrorLogHelper;
-import org.onap.aai.util.AAIConfig;
+import org.onap.aai.util.ResourcesConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,72 +55,42 @@ public class ResponseTransactionLogging extends AAIContainerFilter implements Co
 
     private void transLogging(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
 
-        String logValue;
-        String isGetTransactionResponseLoggingEnabled;
-
-        try {
-            logValue = AAIConfig.get("aai.transaction.logging");
-            isGetTransactionResponseLoggingEnabled = AAIConfig.get("aai.transaction.logging.get");
-        } catch (AAIException e) {
+        if (!TRANSACTION_LOGGER.isDebugEnabled()) {
             return;
         }
 
+        ResourcesConfig config = ResourcesConfig.current();
         String httpMethod = requestContext.getMethod();
 
-        if (Boolean.parseBoolean(logValue)) {
+        if (config.isTransactionLogging()) {
 
             // Do not log echo endpoint that is used for the liveness probe
-            if (requestContext.getUriInfo().getRequestUri().toString().equals("http://aai/aai/util/echo")) {
+            String fullUri = requestContext.getUriInfo().getRequestUri().toString();
+            if (fullUri.equals("http://aai/aai/util/echo")) {
                 return;
             }
 
-            String transId = requestContext.getHeaderString(AAIHeaderProperties.TRANSACTION_ID);
             String fromAppId = requestContext.getHeaderString(AAIHeaderProperties.FROM_APP_ID);
-            String fullUri = requestContext.getUriInfo().getRequestUri().toString();
-            String requestTs = (String) requestContext.getProperty(AAIHeaderProperties.AAI_REQUEST_TS);
-
-            String status = Integer.toString(responseContext.getStatus());
-
-            String request = (String) requestContext.getProperty(AAIHeaderProperties.AAI_REQUEST);
-            String response = null;
-            if (!HttpMethod.GET.equals(httpMethod) || Boolean.parseBoolean(isGetTransactionResponseLoggingEnabled)) {
-                response = this.getResponseString(responseContext);
-            }
-
-            JsonObject logEntry = new JsonObject();
-            logEntry.addProperty("transactionId", transId);
-            logEntry.addProperty("status", status);
-            logEntry.addProperty("rqstDate", requestTs);
-            logEntry.addProperty("respDate", this.genDate());
-            logEntry.addProperty("sourceId", fromAppId + ":" + transId);
-            logEntry.addProperty("resourceId", fullUri);
-            logEntry.addProperty("resourceType", httpMethod);
-            logEntry.addProperty("rqstBuf", Objects.toString(request, ""));
-            if (response != null) {
-                logEntry.addProperty("respBuf", Objects.toString(response));
+            if (!TransactionLogSampler.isSampled(config, responseContext.getStatus(), fromAppId)) {
+                return;
             }
 
-            try {
-                TRANSACTION_LOGGER.debug(logEntry.toString());
-            } catch (Exception e) {
-                ErrorLogHelper.logError("AAI_4000", "Exception writing transaction log.");
+            // the entry is built here, the writer thread only gets copies of the request and response
+            TransactionLogEvent.Response response = null;
+            if (!HttpMethod.GET.equals(httpMethod) || config.isTransactionLoggingGet()) {
+                response = new TransactionLogEvent.Response(
+                        responseContext.getHeaderString(AAIHeaderProperties.AAI_TX_ID),
+                        this.httpServletResponse.getContentType(), responseContext.getStatus(),
+                        responseContext.getHeaders(), responseContext.getEntity(),
+                        config.getTransactionLoggingResponseMaxBytes());
             }
-        }
-    }
 
-    private String getResponseString(ContainerResponseContext responseContext) {
-        JsonObject response = new JsonObject();
-        response.addProperty("ID", responseContext.getHeaderString(AAIHeaderProperties.AAI_TX_ID));
-        response.addProperty("Content-Type", this.httpServletResponse.getContentType());
-        response.addProperty("Response-Code", responseContext.getStatus());
-        response.addProperty("Headers", responseContext.getHeaders().toString());
-        Optional<Object> entityOptional = Optional.ofNullable(responseContext.getEntity());
-        if (entityOptional.isPresent()) {
-            response.addProperty("Entity", entityOptional.get().toString());
-        } else {
-            response.addProperty("Entity", "");
+            TransactionLogWriter.getInstance().log(new TransactionLogEvent(
+                    requestContext.getHeaderString(AAIHeaderProperties.TRANSACTION_ID), responseContext.getStatus(),
+                    (String) requestContext.getProperty(AAIHeaderProperties.AAI_REQUEST_TS), this.genDate(),
+                    fromAppId, fullUri, httpMethod,
+                    Objects.toString(requestContext.getProperty(AAIHeaderProperties.AAI_REQUEST), ""), response));
         }
-        return response.toString();
     }
 
 }
@@ -0,0 +1,154 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * A transaction log entry as handed from the request thread to the {@link TransactionLogWriter}.
+ * It is built on the request thread and only holds copies, so the writer thread never reads
+ * the header maps or entities of a request that may still be in progress.
+ */
+final class TransactionLogEvent {
+
+    private final String transId;
+    private final int status;
+    private final String requestTs;
+    private final String responseTs;
+    private final String fromAppId;
+    private final String resourceId;
+    private final String httpMethod;
+    private final String request;
+    private final Response response;
+
+    TransactionLogEvent(String transId, int status, String requestTs, String responseTs, String fromAppId,
+            String resourceId, String httpMethod, String request, Response response) {
+        this.transId = transId;
+        this.status = status;
+        this.requestTs = requestTs;
+        this.responseTs = responseTs;
+        this.fromAppId = fromAppId;
+        this.resourceId = resourceId;
+        this.httpMethod = httpMethod;
+        this.request = request;
+        this.response = response;
+    }
+
+    String getTransId() {
+        return transId;
+    }
+
+    void writeTo(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("transactionId").value(transId);
+        writer.name("status").value(Integer.toString(status));
+        writer.name("rqstDate").value(requestTs);
+        writer.name("respDate").value(responseTs);
+        writer.name("sourceId").value(fromAppId + ":" + transId);
+        writer.name("resourceId").value(resourceId);
+        writer.name("resourceType").value(httpMethod);
+        writer.name("rqstBuf").value(request);
+        if (response != null) {
+            writer.name("respBuf").value(response.toString());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Truncates a value to at most maxBytes bytes of UTF-8 without splitting a character.
+     *
+     * @return the value or null when it fits
+     */
+    static String truncate(String value, int maxBytes) {
+        if (value.length() * 3 <= maxBytes) {
+            return null;
+        }
+        int bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            int n;
+            if (c < 0x80) {
+                n = 1;
+            } else if (c < 0x800) {
+                n = 2;
+            } else if (Character.isHighSurrogate(c)) {
+                n = 4;
+            } else {
+                n = 3;
+            }
+            if (bytes + n > maxBytes) {
+                return value.substring(0, i);
+            }
+            bytes += n;
+            if (n == 4) {
+                i++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The response part of the entry, only kept when responses are logged for the method.
+     * The entity is cut at maxBytes bytes when the response is created, so a queued entry never
+     * holds more of it, a negative maxBytes keeps all of it.
+     */
+    static final class Response {
+
+        private final String id;
+        private final String contentType;
+        private final int status;
+        private final String headers;
+        private final String entity;
+        private final boolean truncated;
+
+        Response(String id, String contentType, int status, MultivaluedMap<String, Object> headers, Object entity,
+                int maxBytes) {
+            this.id = id;
+            this.contentType = contentType;
+            this.status = status;
+            this.headers = headers.toString();
+            String value = Objects.toString(entity, "");
+            String cut = maxBytes < 0 ? null : truncate(value, maxBytes);
+            this.entity = cut == null ? value : cut;
+            this.truncated = cut != null;
+        }
+
+        @Override
+        public String toString() {
+            JsonObject response = new JsonObject();
+            response.addProperty("ID", id);
+            response.addProperty("Content-Type", contentType);
+            response.addProperty("Response-Code", status);
+            response.addProperty("Headers", headers);
+            response.addProperty("Entity", entity);
+            if (truncated) {
+                response.addProperty("Entity-Truncated", true);
+            }
+            return response.toString();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.onap.aai.util.ResourcesConfig;
+
+/**
+ * Decides which transactions are written to the transaction log.
+ *
+ * Responses other than 2xx are always logged unless aai.transaction.logging.sample.errors is false,
+ * the others are logged with the rate of their source of truth from aai.transaction.logging.sample.sources
+ * (e.g. SO:0.1,robot:0) or else with aai.transaction.logging.sample.rate.
+ */
+final class TransactionLogSampler {
+
+    private TransactionLogSampler() {}
+
+    static boolean isSampled(ResourcesConfig config, int status, String sourceOfTruth) {
+        if (config.isTransactionLoggingSampleErrors() && (status < 200 || status >= 300)) {
+            return true;
+        }
+        double rate = config.getTransactionLoggingSampleRate();
+        double sourceRate = sourceOfTruth == null ? rate
+                : config.getTransactionLoggingSampleSources().getOrDefault(sourceOfTruth, rate);
+        if (sourceRate >= 1) {
+            return true;
+        }
+        return sourceRate > 0 && ThreadLocalRandom.current().nextDouble() < sourceRate;
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import com.google.gson.stream.JsonWriter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.onap.aai.logging.ErrorLogHelper;
+import org.onap.aai.util.AAIConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the transaction log off the request threads.
+ *
+ * Entries are put on a bounded lock-free queue and a single background thread serializes and logs them in
+ * batches. When the queue is full the entry is either written on the calling thread (the default), or dropped,
+ * counted and reported in a warning, depending on aai.transaction.logging.async.policy.
+ */
+public class TransactionLogWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionLogWriter.class);
+
+    public static final String QUEUE_SIZE = "aai.transaction.logging.async.queuesize";
+    public static final String BATCH_SIZE = "aai.transaction.logging.async.batchsize";
+    public static final String POLICY = "aai.transaction.logging.async.policy";
+
+    private static final String DEFAULT_QUEUE_SIZE = "10000";
+    private static final String DEFAULT_BATCH_SIZE = "100";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    public enum OverflowPolicy {
+        /** drop the entry and count it */
+        DROP,
+        /** write the entry on the calling thread */
+        CALLER
+    }
+
+    private final Logger transactionLogger;
+    private final int capacity;
+    private final int batchSize;
+    private final OverflowPolicy policy;
+    private final Queue<TransactionLogEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong lastDropWarning = new AtomicLong(System.nanoTime() - DROP_WARNING_INTERVAL_NANOS);
+    private final Thread writer;
+    private volatile boolean idle;
+    private volatile boolean running = true;
+
+    TransactionLogWriter(Logger transactionLogger, int capacity, int batchSize, OverflowPolicy policy) {
+        this.transactionLogger = transactionLogger;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.policy = policy;
+        this.writer = new Thread(this::run, "aai-transaction-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * The Class Helper.
+     */
+    private static class Helper {
+
+        /** The Constant INSTANCE. */
+        private static final TransactionLogWriter INSTANCE = create();
+
+        private static TransactionLogWriter create() {
+            TransactionLogWriter instance =
+                    new TransactionLogWriter(LoggerFactory.getLogger(ResponseTransactionLogging.class),
+                            Integer.parseInt(AAIConfig.get(QUEUE_SIZE, DEFAULT_QUEUE_SIZE)),
+                            Integer.parseInt(AAIConfig.get(BATCH_SIZE, DEFAULT_BATCH_SIZE)),
+                            OverflowPolicy.valueOf(AAIConfig.get(POLICY, OverflowPolicy.CALLER.name()).toUpperCase()));
+            Gauge.builder("aai.transaction.log.queue", instance.size, AtomicInteger::get)
+                    .description("Transaction log entries waiting to be written").register(Metrics.globalRegistry);
+            FunctionCounter.builder("aai.transaction.log.dropped", instance.dropped, AtomicLong::get)
+                    .description("Transaction log entries dropped because the queue was full")
+                    .register(Metrics.globalRegistry);
+            FunctionCounter.builder("aai.transaction.log.written", instance.written, AtomicLong::get)
+                    .description("Transaction log entries written").register(Metrics.globalRegistry);
+            return instance;
+        }
+    }
+
+    /**
+     * Gets the single instance of TransactionLogWriter.
+     *
+     * @return single instance of TransactionLogWriter
+     */
+    public static TransactionLogWriter getInstance() {
+        return Helper.INSTANCE;
+    }
+
+    void log(TransactionLogEvent event) {
+        if (!running || size.incrementAndGet() > capacity) {
+            if (running) {
+                size.decrementAndGet();
+            }
+            if (policy == OverflowPolicy.CALLER) {
+                write(event, new StringWriter());
+            } else {
+                warnDropped(dropped.incrementAndGet());
+            }
+            return;
+        }
+        queue.offer(event);
+        if (idle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Warns about dropped entries at most once per interval, so a full queue does not flood the log.
+     */
+    private void warnDropped(long total) {
+        long now = System.nanoTime();
+        long last = lastDropWarning.get();
+        if (now - last >= DROP_WARNING_INTERVAL_NANOS && lastDropWarning.compareAndSet(last, now)) {
+            LOGGER.warn("Transaction log queue of {} entries is full, {} entries were dropped so far", capacity,
+                    total);
+        }
+    }
+
+    long getDropped() {
+        return dropped.get();
+    }
+
+    long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * Stops the background thread after the queued entries are written.
+     */
+    public void shutdown() {
+        LOGGER.info("Shutting down the transaction log writer");
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<TransactionLogEvent> batch = new ArrayList<>(batchSize);
+        StringWriter buffer = new StringWriter();
+        while (true) {
+            TransactionLogEvent event;
+            while (batch.size() < batchSize && (event = queue.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                if (!running) {
+                    return;
+                }
+                idle = true;
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+            for (TransactionLogEvent e : batch) {
+                buffer.getBuffer().setLength(0);
+                write(e, buffer);
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(TransactionLogEvent event, StringWriter buffer) {
+        try {
+            event.writeTo(new JsonWriter(buffer));
+            transactionLogger.debug(buffer.toString());
+            written.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            ErrorLogHelper.logError("AAI_4000", "Exception writing transaction log for " + event.getTransId());
+        }
+    }
+}
@@ -29,6 +29,8 @@ public final class AAIRequestFilterPriority {
 
     public static final int HEADER_VALIDATION = 2000;
 
+    public static final int CONCURRENCY_LIMIT = 2500;
+
     public static final int SET_LOGGING_CONTEXT = 3000;
 
     public static final int HTTP_HEADER = 4000;
@@ -45,4 +47,6 @@ public final class AAIRequestFilterPriority {
 
     public static final int REQUEST_MODIFICATION = 7000;
 
+    public static final int GRAPH_ACCESS = 8000;
+
 }
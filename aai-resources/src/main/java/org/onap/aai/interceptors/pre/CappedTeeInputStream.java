@@ -0,0 +1,98 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.pre;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps a copy of the first maxBytes bytes that the downstream reader reads from the request entity,
+ * so the payload can be logged without reading the entity ahead of the resource.
+ */
+class CappedTeeInputStream extends FilterInputStream {
+
+    private final int maxBytes;
+    private ByteArrayOutputStream captured;
+    private boolean truncated;
+
+    CappedTeeInputStream(InputStream in, int maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            if (remaining(1) > 0) {
+                captured.write(b);
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            capture(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        int remaining = remaining(len);
+        if (remaining > 0) {
+            captured.write(b, off, Math.min(len, remaining));
+        }
+    }
+
+    private int remaining(int len) {
+        if (captured == null) {
+            captured = new ByteArrayOutputStream(Math.min(Math.max(len, 256), maxBytes));
+        }
+        int remaining = maxBytes - captured.size();
+        if (len > remaining) {
+            truncated = true;
+        }
+        return remaining;
+    }
+
+    boolean hasCaptured() {
+        return captured != null && captured.size() > 0;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    String getCaptured() {
+        return captured == null ? "" : new String(captured.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
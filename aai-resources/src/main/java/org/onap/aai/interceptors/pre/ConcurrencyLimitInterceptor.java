@@ -0,0 +1,81 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.pre;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.Response;
+
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.AAIContainerFilter;
+import org.onap.aai.interceptors.AAIHeaderProperties;
+import org.onap.aai.interceptors.post.RequestCompletionListener;
+import org.onap.aai.logging.ErrorLogHelper;
+import org.onap.aai.service.ConcurrencyLimitService;
+import org.onap.aai.util.ResourcesConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Rejects a request with 429 when its client (the X-FromAppId resolved by {@link HeaderValidation})
+ * is over its concurrency limit and with 503 when the service is, both with a Retry-After header.
+ * The permit is released once the request has finished, the ConcurrencyLimitRelease response filter
+ * records the status it is released with.
+ */
+@PreMatching
+@Priority(AAIRequestFilterPriority.CONCURRENCY_LIMIT)
+public class ConcurrencyLimitInterceptor extends AAIContainerFilter implements ContainerRequestFilter {
+
+    private final ConcurrencyLimitService concurrencyLimitService;
+
+    @Autowired
+    public ConcurrencyLimitInterceptor(ConcurrencyLimitService concurrencyLimitService) {
+        this.concurrencyLimitService = concurrencyLimitService;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+
+        // Do not limit the echo endpoint that is used for the liveness probe
+        if (requestContext.getUriInfo().getPath().endsWith("util/echo")) {
+            return;
+        }
+
+        try {
+            ConcurrencyLimitService.Permit permit =
+                    concurrencyLimitService.acquire(requestContext.getHeaderString(AAIHeaderProperties.FROM_APP_ID));
+            if (permit != null) {
+                requestContext.setProperty(AAIHeaderProperties.CONCURRENCY_PERMIT, permit);
+                RequestCompletionListener.onCompletion(requestContext, permit::release);
+            }
+        } catch (AAIException e) {
+            requestContext.abortWith(Response.status(e.getErrorObject().getHTTPResponseCode())
+                    .header(AAIHeaderProperties.RETRY_AFTER, ResourcesConfig.current().getConcurrencyLimitRetryAfter())
+                    .entity(ErrorLogHelper.getRESTAPIErrorResponse(requestContext.getAcceptableMediaTypes(), e,
+                            new ArrayList<>()))
+                    .build());
+        }
+    }
+}
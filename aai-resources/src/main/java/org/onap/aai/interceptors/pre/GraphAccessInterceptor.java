@@ -0,0 +1,81 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.pre;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.AAIContainerFilter;
+import org.onap.aai.interceptors.AAIHeaderProperties;
+import org.onap.aai.interceptors.GraphAccess;
+import org.onap.aai.interceptors.post.RequestCompletionListener;
+import org.onap.aai.logging.ErrorLogHelper;
+import org.onap.aai.service.GraphAccessLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Acquires a {@link GraphAccessLimiter} permit for the {@link GraphAccess} resources when aai.graph.access.enabled
+ * is set, a request that gets none in time is rejected with 503. The permit is released by the GraphAccessRelease
+ * response filter, or once the request has finished if the response filters never ran.
+ */
+@GraphAccess
+@Priority(AAIRequestFilterPriority.GRAPH_ACCESS)
+public class GraphAccessInterceptor extends AAIContainerFilter implements ContainerRequestFilter {
+
+    private final GraphAccessLimiter graphAccessLimiter;
+
+    @Autowired
+    public GraphAccessInterceptor(GraphAccessLimiter graphAccessLimiter) {
+        this.graphAccessLimiter = graphAccessLimiter;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+
+        if (!graphAccessLimiter.isEnabled()) {
+            return;
+        }
+        GraphAccessLimiter.Permit permit = null;
+        try {
+            permit = graphAccessLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (permit != null) {
+            requestContext.setProperty(AAIHeaderProperties.GRAPH_ACCESS_PERMIT, permit);
+            RequestCompletionListener.onCompletion(requestContext, permit::release);
+            return;
+        }
+
+        AAIException e = new AAIException("AAI_7410", "no graph access permit became available");
+        requestContext.abortWith(Response.status(e.getErrorObject().getHTTPResponseCode())
+                .header(AAIHeaderProperties.RETRY_AFTER, 1)
+                .entity(ErrorLogHelper.getRESTAPIErrorResponse(requestContext.getAcceptableMediaTypes(), e,
+                        new ArrayList<>()))
+                .build());
+    }
+}
@@ -20,12 +20,7 @@
 
 package org.onap.aai.interceptors.pre;
 
-import com.google.gson.JsonObject;
-
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.SecureRandom;
 import java.util.Random;
 import java.util.UUID;
@@ -39,14 +34,13 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.UriInfo;
 
-import org.glassfish.jersey.message.internal.ReaderWriter;
-import org.glassfish.jersey.server.ContainerException;
-import org.onap.aai.exceptions.AAIException;
 import org.onap.aai.interceptors.AAIContainerFilter;
 import org.onap.aai.interceptors.AAIHeaderProperties;
-import org.onap.aai.util.AAIConfig;
-import org.onap.aai.util.AAIConstants;
+import org.onap.aai.interceptors.post.ResponseTransactionLogging;
 import org.onap.aai.util.HbaseSaltPrefixer;
+import org.onap.aai.util.ResourcesConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.StringUtils;
 
@@ -54,6 +48,8 @@ import org.springframework.util.StringUtils;
 @Priority(AAIRequestFilterPriority.REQUEST_TRANS_LOGGING)
 public class RequestTransactionLogging extends AAIContainerFilter implements ContainerRequestFilter {
 
+    private static final Logger TRANSACTION_LOGGER = LoggerFactory.getLogger(ResponseTransactionLogging.class);
+
     @Autowired
     private HttpServletRequest httpServletRequest;
 
@@ -69,17 +65,20 @@ public class RequestTransactionLogging extends AAIContainerFilter implements Con
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
 
+        ResourcesConfig config = ResourcesConfig.current();
         String currentTimeStamp = genDate();
-        String fullId = this.getAAITxIdToHeader(currentTimeStamp);
+        String fullId = this.getAAITxIdToHeader(config, currentTimeStamp);
         this.addToRequestContext(requestContext, AAIHeaderProperties.AAI_TX_ID, fullId);
-        this.addToRequestContext(requestContext, AAIHeaderProperties.AAI_REQUEST,
-                this.getRequest(requestContext, fullId));
+        if (TRANSACTION_LOGGER.isDebugEnabled() && config.isTransactionLogging()) {
+            this.addToRequestContext(requestContext, AAIHeaderProperties.AAI_REQUEST,
+                    this.getRequest(requestContext, fullId, config.getTransactionLoggingRequestMaxBytes()));
+        }
         this.addToRequestContext(requestContext, AAIHeaderProperties.AAI_REQUEST_TS, currentTimeStamp);
         this.addDefaultContentType(requestContext);
     }
 
-    private void addToRequestContext(ContainerRequestContext requestContext, String name, String aaiTxIdToHeader) {
-        requestContext.setProperty(name, aaiTxIdToHeader);
+    private void addToRequestContext(ContainerRequestContext requestContext, String name, Object value) {
+        requestContext.setProperty(name, value);
     }
 
     private void addDefaultContentType(ContainerRequestContext requestContext) {
@@ -109,43 +108,31 @@ public class RequestTransactionLogging extends AAIContainerFilter implements Con
         }
     }
 
-    private String getAAITxIdToHeader(String currentTimeStamp) {
-        String txId = UUID.randomUUID().toString();
-        try {
-            Random rand = new SecureRandom();
-            int number = rand.nextInt(99999);
-            txId = HbaseSaltPrefixer.getInstance()
-                    .prependSalt(AAIConfig.get(AAIConstants.AAI_NODENAME) + "-" + currentTimeStamp + "-" + number); // new
-                                                                                                                    // Random(System.currentTimeMillis()).nextInt(99999)
-        } catch (AAIException e) {
+    private String getAAITxIdToHeader(ResourcesConfig config, String currentTimeStamp) {
+        if (config.getNodeName() == null) {
+            return UUID.randomUUID().toString();
         }
-
-        return txId;
+        Random rand = new SecureRandom();
+        int number = rand.nextInt(99999);
+        return HbaseSaltPrefixer.getInstance()
+                .prependSalt(config.getNodeName() + "-" + currentTimeStamp + "-" + number); // new
+                                                                                            // Random(System.currentTimeMillis()).nextInt(99999)
     }
 
-    private String getRequest(ContainerRequestContext requestContext, String fullId) {
+    /**
+     * The request is rendered when the transaction log entry is written. The payload is captured while
+     * the resource reads the entity, up to aai.transaction.logging.request.maxbytes bytes.
+     */
+    private TransactionLogRequest getRequest(ContainerRequestContext requestContext, String fullId, int maxBytes) {
 
-        JsonObject request = new JsonObject();
-        request.addProperty("ID", fullId);
-        request.addProperty("Http-Method", requestContext.getMethod());
-        request.addProperty(CONTENT_TYPE, httpServletRequest.getContentType());
-        request.addProperty("Headers", requestContext.getHeaders().toString());
-
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        InputStream in = requestContext.getEntityStream();
-
-        try {
-            if (in.available() > 0) {
-                ReaderWriter.writeTo(in, out);
-                byte[] requestEntity = out.toByteArray();
-                request.addProperty("Payload", new String(requestEntity, "UTF-8"));
-                requestContext.setEntityStream(new ByteArrayInputStream(requestEntity));
-            }
-        } catch (IOException ex) {
-            throw new ContainerException(ex);
+        CappedTeeInputStream payload = null;
+        if (maxBytes > 0 && requestContext.hasEntity()) {
+            payload = new CappedTeeInputStream(requestContext.getEntityStream(), maxBytes);
+            requestContext.setEntityStream(payload);
         }
 
-        return request.toString();
+        return new TransactionLogRequest(fullId, requestContext.getMethod(), httpServletRequest.getContentType(),
+                requestContext.getHeaders(), payload);
     }
 
 }
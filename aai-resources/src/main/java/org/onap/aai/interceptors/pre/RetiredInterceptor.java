@@ -35,14 +35,16 @@ import jakarta.ws.rs.core.Response;
 import org.onap.aai.exceptions.AAIException;
 import org.onap.aai.interceptors.AAIContainerFilter;
 import org.onap.aai.logging.ErrorLogHelper;
+import org.onap.aai.service.RetiredMatcher;
 import org.onap.aai.service.RetiredService;
-import org.onap.aai.util.AAIConfig;
+import org.onap.aai.util.ResourcesConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
-// Can cache this so if the uri was already cached then it won't run the string
-// matching each time but only does it for the first time
-
+/**
+ * Rejects requests to retired uris. The paths are matched by the {@link RetiredMatcher} of the
+ * {@link RetiredService}, which reloads them when retired.properties changes.
+ */
 @PreMatching
 @Priority(AAIRequestFilterPriority.RETIRED_SERVICE)
 public class RetiredInterceptor extends AAIContainerFilter implements ContainerRequestFilter {
@@ -67,17 +69,13 @@ public class RetiredInterceptor extends AAIContainerFilter implements ContainerR
 
         String requestURI = containerRequestContext.getUriInfo().getAbsolutePath().getPath();
 
-        String version = extractVersionFromPath(requestURI);
+        RetiredMatcher.Decision decision = retiredService.getMatcher().match(requestURI);
 
-        List<Pattern> retiredAllVersionList = retiredService.getRetiredAllVersionList();
-
-        if (checkIfUriRetired(containerRequestContext, retiredAllVersionList, version, requestURI, "")) {
-            return;
+        if (decision == RetiredMatcher.Decision.RETIRED_ALL_VERSIONS) {
+            abortRetired(containerRequestContext, extractVersionFromPath(requestURI), requestURI, "");
+        } else if (decision == RetiredMatcher.Decision.RETIRED) {
+            abortRetired(containerRequestContext, extractVersionFromPath(requestURI), requestURI, null);
         }
-
-        List<Pattern> retiredVersionList = retiredService.getRetiredPatterns();
-
-        checkIfUriRetired(containerRequestContext, retiredVersionList, version, requestURI);
     }
 
     public boolean checkIfUriRetired(ContainerRequestContext containerRequestContext, List<Pattern> retiredPatterns,
@@ -85,34 +83,7 @@ public class RetiredInterceptor extends AAIContainerFilter implements ContainerR
 
         for (Pattern retiredPattern : retiredPatterns) {
             if (retiredPattern.matcher(requestURI).matches()) {
-                AAIException e;
-
-                if (message == null) {
-                    e = new AAIException("AAI_3007");
-                } else {
-                    e = new AAIException("AAI_3015");
-                }
-
-                ArrayList<String> templateVars = new ArrayList<>();
-
-                if (templateVars.isEmpty()) {
-                    templateVars.add("PUT");
-                    if (requestURI != null) {
-                        requestURI = requestURI.replaceAll(basePath, "");
-                    }
-                    templateVars.add(requestURI);
-                    if (message == null) {
-                        templateVars.add(version);
-                        templateVars.add(AAIConfig.get("aai.default.api.version", ""));
-                    }
-                }
-
-                Response response = Response.status(e.getErrorObject().getHTTPResponseCode()).entity(ErrorLogHelper
-                        .getRESTAPIErrorResponse(containerRequestContext.getAcceptableMediaTypes(), e, templateVars))
-                        .build();
-
-                containerRequestContext.abortWith(response);
-
+                abortRetired(containerRequestContext, version, requestURI, message);
                 return true;
             }
         }
@@ -125,6 +96,37 @@ public class RetiredInterceptor extends AAIContainerFilter implements ContainerR
         return checkIfUriRetired(containerRequestContext, retiredPatterns, version, requestURI, null);
     }
 
+    private void abortRetired(ContainerRequestContext containerRequestContext, String version, String requestURI,
+            String message) {
+        AAIException e;
+
+        if (message == null) {
+            e = new AAIException("AAI_3007");
+        } else {
+            e = new AAIException("AAI_3015");
+        }
+
+        ArrayList<String> templateVars = new ArrayList<>();
+
+        if (templateVars.isEmpty()) {
+            templateVars.add("PUT");
+            if (requestURI != null) {
+                requestURI = requestURI.replaceAll(basePath, "");
+            }
+            templateVars.add(requestURI);
+            if (message == null) {
+                templateVars.add(version);
+                templateVars.add(ResourcesConfig.current().getDefaultApiVersion());
+            }
+        }
+
+        Response response = Response.status(e.getErrorObject().getHTTPResponseCode()).entity(ErrorLogHelper
+                .getRESTAPIErrorResponse(containerRequestContext.getAcceptableMediaTypes(), e, templateVars))
+                .build();
+
+        containerRequestContext.abortWith(response);
+    }
+
     protected String extractVersionFromPath(String requestURI) {
         Matcher versionMatcher = VERSION_PATTERN.matcher(requestURI);
         String version = null;
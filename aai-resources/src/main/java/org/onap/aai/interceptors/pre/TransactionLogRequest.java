@@ -0,0 +1,63 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.pre;
+
+import com.google.gson.JsonObject;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * The request part of a transaction log entry. It is rendered by {@link #toString()} once the response
+ * is ready, the payload is what the resource read from the request entity.
+ */
+final class TransactionLogRequest {
+
+    private final String id;
+    private final String httpMethod;
+    private final String contentType;
+    private final MultivaluedMap<String, String> headers;
+    private final CappedTeeInputStream payload;
+
+    TransactionLogRequest(String id, String httpMethod, String contentType, MultivaluedMap<String, String> headers,
+            CappedTeeInputStream payload) {
+        this.id = id;
+        this.httpMethod = httpMethod;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.payload = payload;
+    }
+
+    @Override
+    public String toString() {
+        JsonObject request = new JsonObject();
+        request.addProperty("ID", id);
+        request.addProperty("Http-Method", httpMethod);
+        request.addProperty("Content-Type", contentType);
+        request.addProperty("Headers", headers.toString());
+        if (payload != null && payload.hasCaptured()) {
+            request.addProperty("Payload", payload.getCaptured());
+            if (payload.isTruncated()) {
+                request.addProperty("Payload-Truncated", true);
+            }
+        }
+        return request.toString();
+    }
+}
@@ -24,8 +24,10 @@ import io.micrometer.core.annotation.Timed;
 
 import jakarta.ws.rs.Path;
 
+import org.onap.aai.interceptors.GraphAccess;
 import org.onap.aai.restcore.HttpMethod;
 
+@GraphAccess
 @Path("{version: v[1-9][0-9]*|latest}/bulkadd")
 @Timed
 public class BulkAddConsumer extends BulkConsumer {
@@ -25,17 +25,32 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
-
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -48,6 +63,7 @@ import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 
@@ -56,22 +72,32 @@ import org.onap.aai.config.SpringContextAware;
 import org.onap.aai.exceptions.AAIException;
 import org.onap.aai.introspection.Introspector;
 import org.onap.aai.introspection.Loader;
+import org.onap.aai.introspection.LoaderFactory;
 import org.onap.aai.introspection.ModelType;
 import org.onap.aai.introspection.exceptions.AAIUnmarshallingException;
 import org.onap.aai.logging.ErrorObjectNotFoundException;
 import org.onap.aai.parsers.query.QueryParser;
+import org.onap.aai.rest.bulk.BulkHttpHeaders;
 import org.onap.aai.rest.bulk.BulkOperation;
 import org.onap.aai.rest.bulk.BulkOperationResponse;
+import org.onap.aai.rest.bulk.BulkTransactionExecutor;
+import org.onap.aai.rest.bulk.BulkTransactionReader;
+import org.onap.aai.rest.bulk.BulkUriInfo;
 import org.onap.aai.rest.db.DBRequest;
 import org.onap.aai.rest.db.HttpEntry;
+import org.onap.aai.rest.ueb.UEBNotification;
+import org.onap.aai.rest.util.RequestDeadline;
 import org.onap.aai.rest.util.ValidateEncoding;
 import org.onap.aai.restcore.HttpMethod;
 import org.onap.aai.restcore.RESTAPI;
 import org.onap.aai.serialization.engines.QueryStyle;
 import org.onap.aai.serialization.engines.TransactionalGraphEngine;
+import org.onap.aai.service.GetResponseCache;
 import org.onap.aai.setup.SchemaVersion;
-import org.onap.aai.util.AAIConfig;
-import org.onap.aai.util.AAIConstants;
+import org.onap.aai.setup.SchemaVersions;
+import org.onap.aai.util.ResourcesConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -94,6 +120,10 @@ public abstract class BulkConsumer extends RESTAPI {
     private static final String BULK_DELETE_METHOD = "delete";
     private static final String BULK_PUT_METHOD = "put";
     private static final String TARGET_ENTITY = "aai-resources";
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkConsumer.class);
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+    private static final String BULK_CONCURRENCY_HEADER = "X-Bulk-Concurrency";
+    private static final String BULK_STREAMING_HEADER = "X-Bulk-Streaming";
 
     /** The introspector factory type. */
     private ModelType introspectorFactoryType = ModelType.MOXY;
@@ -115,8 +145,23 @@ public abstract class BulkConsumer extends RESTAPI {
     @PUT
     @Consumes({MediaType.APPLICATION_JSON})
     @Produces({MediaType.APPLICATION_JSON})
-    public Response bulkProcessor(String content, @PathParam("version") String versionParam,
+    public Response bulkProcessor(InputStream content, @PathParam("version") String versionParam,
             @Context HttpHeaders headers, @Context UriInfo info, @Context HttpServletRequest req) {
+        return bulkProcessor(content, versionParam, headers, info, RequestDeadline.forRequest(headers));
+    }
+
+    /**
+     * Bulk add bound to a deadline.
+     *
+     * @param content the content
+     * @param versionParam the version param
+     * @param headers the headers
+     * @param info the info
+     * @param deadline the deadline of the request, {@link RequestDeadline#NONE} for a job no client waits for
+     * @return the response
+     */
+    public Response bulkProcessor(InputStream content, String versionParam, HttpHeaders headers, UriInfo info,
+            RequestDeadline deadline) {
 
         String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
         String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
@@ -125,148 +170,477 @@ public abstract class BulkConsumer extends RESTAPI {
         Response response = null;
 
         try {
+            // the entity stream belongs to the container, so the reader is not closed here
+            BulkTransactionReader reader = new BulkTransactionReader(content, getModule());
+            TransactionSource transactions;
+            if (isOverrideLimit(headers)) {
+                // there is no limit to validate, so each transaction is processed as soon as it has been read
+                reader.open();
+                transactions = reader::next;
+            } else {
+                Iterator<JsonElement> it = getTransactions(reader).iterator();
+                transactions = () -> it.hasNext() ? it.next() : null;
+            }
+            int concurrency = getTransactionConcurrency(headers);
+
+            if (isStreamingResponse(headers)) {
+                StreamingOutput output = out -> writeResponsePayload(out, transactions, concurrency, version,
+                        sourceOfTruth, transId, outputMediaType, headers, info, deadline);
+                response = Response.status(Status.CREATED).type(MediaType.APPLICATION_JSON_TYPE).entity(output)
+                        .build();
+            } else {
+                /*
+                 * A Response will be generated for each object in each transaction.
+                 * To keep track of what came from where to give organized feedback to the client,
+                 * we keep responses from a given transaction together in one list (hence all being a list of lists)
+                 * and BulkOperationResponse each response with its matching URI (which will be null if there wasn't
+                 * one).
+                 */
+                List<List<BulkOperationResponse>> allResponses = new ArrayList<>();
+                processTransactions(transactions, concurrency, version, sourceOfTruth, transId, outputMediaType,
+                        headers, info, deadline, allResponses::add);
+
+                String returnPayload = generateResponsePayload(allResponses);
+
+                // unless a top level error gets thrown, we want to 201 bc the client wanted a "fire and forget" kind
+                // of setup
+                response = Response.status(Status.CREATED).entity(returnPayload).build();
+            }
+        } catch (AAIException e) { // these catches needed for handling top level errors in payload parsing where the
+                                   // whole request must fail out
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, e);
+        } catch (JsonSyntaxException | MalformedJsonException | EOFException e) {
+            AAIException ex = new AAIException("AAI_6111");
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, ex);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            AAIException ex = new AAIException("AAI_4000", e);
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, ex);
+        } catch (Exception e) {
+            AAIException ex = new AAIException("AAI_4000", e);
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, ex);
+        }
+
+        return response;
+    }
+
+    /**
+     * Bulk add of a payload that has already been read into memory.
+     *
+     * @param content the content
+     * @param versionParam the version param
+     * @param headers the headers
+     * @param info the info
+     * @param req the req
+     * @return the response
+     */
+    public Response bulkProcessor(String content, String versionParam, HttpHeaders headers, UriInfo info,
+            HttpServletRequest req) {
+        return bulkProcessor(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), versionParam,
+                headers, info, req);
+    }
+
+    /**
+     * Processes the transactions in the order they are supplied.
+     * When the concurrency is greater than one, up to that many transactions run at once on the shared
+     * bulk executor, otherwise they run one after another on the calling thread.
+     * Either way the responses are handed to the handler in the order of the transactions array,
+     * each as soon as it and all transactions before it have finished.
+     *
+     * @param transactions the source of the transactions
+     * @param concurrency the maximum number of transactions of this request in flight at once
+     * @param version the schema version
+     * @param sourceOfTruth the source of truth
+     * @param transId the transaction id
+     * @param outputMediaType the output media type
+     * @param headers the headers
+     * @param info the info
+     * @param deadline the deadline of the request, transactions that did not finish before it fail with AAI_7406
+     * @param handler receives the responses of every transaction
+     * @throws AAIException if the payload does not follow the bulk interface
+     * @throws IOException if the payload could not be read or the handler failed
+     * @throws InterruptedException if interrupted while waiting for the transactions
+     * @throws ExecutionException if a transaction failed with an error it could not handle itself
+     */
+    private void processTransactions(TransactionSource transactions, int concurrency, SchemaVersion version,
+            String sourceOfTruth, String transId, String outputMediaType, HttpHeaders headers, UriInfo info,
+            RequestDeadline deadline, TransactionResponseHandler handler)
+            throws AAIException, IOException, InterruptedException, ExecutionException {
+        Semaphore permits = null;
+        HttpHeaders transactionHeaders = headers;
+        UriInfo transactionInfo = info;
+        if (concurrency > 1) {
+            // the request scoped headers and uri info of the container must not be used from the worker threads
+            permits = new Semaphore(concurrency);
+            transactionHeaders = new BulkHttpHeaders(headers);
+            transactionInfo = new BulkUriInfo(info);
+        }
 
+        Deque<Future<List<BulkOperationResponse>>> pending = new ArrayDeque<>();
+        int count = 0;
+        try {
+            JsonElement transObj;
+            while ((transObj = transactions.next()) != null) {
+                final JsonElement transaction = transObj;
+                final HttpHeaders detachedHeaders = transactionHeaders;
+                final UriInfo detachedInfo = transactionInfo;
+                if (permits != null) {
+                    pending.add(BulkTransactionExecutor.getInstance().submit(() -> processTransaction(transaction,
+                            version, sourceOfTruth, transId, outputMediaType, detachedHeaders, detachedInfo,
+                            deadline), permits));
+                } else {
+                    pending.add(CompletableFuture.completedFuture(processTransaction(transaction, version,
+                            sourceOfTruth, transId, outputMediaType, headers, info, deadline)));
+                }
+                count++;
+                while (!pending.isEmpty() && pending.peek().isDone()) {
+                    handler.accept(pending.poll().get());
+                }
+            }
+        } catch (JsonSyntaxException | MalformedJsonException | EOFException e) {
+            if (count == 0) {
+                throw e;
+            }
             /*
-             * A Response will be generated for each object in each transaction.
-             * To keep track of what came from where to give organized feedback to the client,
-             * we keep responses from a given transaction together in one list (hence all being a list of lists)
-             * and BulkOperationResponse each response with its matching URI (which will be null if there wasn't one).
+             * the transactions read before the payload broke off may already be committed,
+             * so report the broken part as one more failed transaction instead of failing the whole request
              */
-            List<List<BulkOperationResponse>> allResponses = new ArrayList<>();
-
-            JsonArray transactions = getTransactions(content, headers);
-
-            for (int i = 0; i < transactions.size(); i++) {
-                HttpEntry resourceHttpEntry = SpringContextAware.getBean("traversalUriHttpEntry", HttpEntry.class);
-                resourceHttpEntry.setHttpEntryProperties(version);
-                Loader loader = resourceHttpEntry.getLoader();
-                TransactionalGraphEngine dbEngine = resourceHttpEntry.getDbEngine();
-                URI thisUri = null;
-                List<BulkOperation> bulkOperations = new ArrayList<>();
-                HttpMethod method = null;
-                JsonElement transObj = new JsonObject();
-                try {
-                    transObj = transactions.get(i);
-                    if (!transObj.isJsonObject()) {
-                        throw new AAIException("AAI_6111", "input payload does not follow bulk interface");
-                    }
+            List<BulkOperationResponse> failure = new ArrayList<>();
+            addExceptionCaseFailureResponse(failure,
+                    new AAIException("AAI_6111", "payload could not be read after transaction " + count), null,
+                    headers, info, HttpMethod.PUT);
+            pending.add(CompletableFuture.completedFuture(failure));
+        }
 
-                    fillBulkOperationsObjectFromTransaction(bulkOperations, transObj.getAsJsonObject(), loader,
-                            dbEngine, outputMediaType);
-                    if (bulkOperations.isEmpty()) {
-                        // case where user sends a validly formatted transactions object but
-                        // which has no actual things in it for A&AI to do anything with
-                        // assuming we should count this as a user error
-                        throw new AAIException("AAI_6118", "payload had no objects to operate on");
-                    }
+        if (count == 0) {
+            // case where user sends a validly formatted transactions object but
+            // which has no actual things in it for A&AI to do anything with
+            // assuming we should count this as a user error
+            throw new AAIException("AAI_6118", "payload had no objects to operate on");
+        }
 
-                    List<DBRequest> requests = new ArrayList<>();
-                    for (BulkOperation bulkOperation : bulkOperations) {
-                        thisUri = bulkOperation.getUri();
-                        method = bulkOperation.getHttpMethod();
-                        QueryParser uriQuery = dbEngine.getQueryBuilder().createQueryFromURI(thisUri);
-                        DBRequest request = new DBRequest.Builder(method, thisUri, uriQuery,
-                                bulkOperation.getIntrospector(), headers, bulkOperation.getUriInfo(), transId)
-                                        .rawRequestContent(bulkOperation.getRawReq()).build();
-                        requests.add(request);
-                    }
+        while (!pending.isEmpty()) {
+            handler.accept(pending.poll().get());
+        }
+    }
 
-                    Pair<Boolean, List<Pair<URI, Response>>> results =
-                            resourceHttpEntry.process(requests, sourceOfTruth, this.enableResourceVersion());
-                    List<BulkOperationResponse> responses =
-                            BulkOperationResponse.processPairList(method, results.getValue1());
-                    allResponses.add(responses);
-                    if (results.getValue0()) { // everything was processed without error
-                        dbEngine.commit();
-                    } else { // something failed
-                        dbEngine.rollback();
-                    }
-                } catch (Exception e) {
-                    /*
-                     * While httpEntry.process handles its exceptions, exceptions thrown in earlier helpers
-                     * bubbles up to here. As we want to tie error messages to the URI of the object that caused
-                     * them, we catch here, generate a Response, bundle it with that URI, and move on.
-                     */
-                    if (!bulkOperations.isEmpty()) { // failed somewhere in the middle of bulkOperation-filling
-                        BulkOperation lastBulkOperation = bulkOperations.get(bulkOperations.size() - 1); // last one in
-                                                                                                         // there was
-                                                                                                         // the problem
-                        if (lastBulkOperation.getIntrospector() == null) {
-                            // failed out before thisUri could be set but after bulkOperations started being filled
-                            thisUri = lastBulkOperation.getUri();
-                            method = lastBulkOperation.getHttpMethod();
-                        }
-                    } // else failed out on empty payload so bulkOperations never filled (or failed out even earlier
-                      // than bulkOperations-filling)
-
-                    if (method == null) {
-                        List<String> methods = transObj.getAsJsonObject().entrySet().stream().map(Entry::getKey)
-                                .collect(Collectors.toCollection(ArrayList::new));
-
-                        if (methods.contains(BULK_PUT_METHOD)) {
-                            method = HttpMethod.PUT;
-                        } else if (methods.contains(BULK_DELETE_METHOD)) {
-                            method = HttpMethod.DELETE;
-                        } else if (methods.contains(BULK_PATCH_METHOD)) {
-                            method = HttpMethod.MERGE_PATCH;
-                        } else {
-                            method = HttpMethod.PUT;
-                        }
-                    }
+    /**
+     * Processes a single transaction of the payload with its own HttpEntry and db engine.
+     * Its changes are committed if every operation succeeded and rolled back otherwise.
+     *
+     * @param transObj the transaction
+     * @param version the schema version
+     * @param sourceOfTruth the source of truth
+     * @param transId the transaction id
+     * @param outputMediaType the output media type
+     * @param headers the headers
+     * @param info the info
+     * @param deadline the deadline of the request
+     * @return the responses of every operation in the transaction
+     */
+    private List<BulkOperationResponse> processTransaction(JsonElement transObj, SchemaVersion version,
+            String sourceOfTruth, String transId, String outputMediaType, HttpHeaders headers, UriInfo info,
+            RequestDeadline deadline) {
+        return executeTransaction(newHttpEntry(version), transObj, sourceOfTruth, transId, outputMediaType, headers,
+                info, true, deadline).getValue1();
+    }
+
+    private HttpEntry newHttpEntry(SchemaVersion version) {
+        HttpEntry resourceHttpEntry = SpringContextAware.getBean("traversalUriHttpEntry", HttpEntry.class);
+        resourceHttpEntry.setHttpEntryProperties(version);
+        return resourceHttpEntry;
+    }
+
+    /**
+     * Executes a single transaction of the payload on the given HttpEntry.
+     *
+     * @param resourceHttpEntry the http entry, whose db engine holds the graph transaction
+     * @param transObj the transaction
+     * @param sourceOfTruth the source of truth
+     * @param transId the transaction id
+     * @param outputMediaType the output media type
+     * @param headers the headers
+     * @param info the info
+     * @param complete if true the changes are committed on success and rolled back on failure,
+     *        otherwise the graph transaction is left open for the caller to complete
+     * @param deadline the deadline of the request, the transaction fails with AAI_7406 if it did not finish before
+     * @return whether every operation succeeded and the responses of every operation in the transaction
+     */
+    private Pair<Boolean, List<BulkOperationResponse>> executeTransaction(HttpEntry resourceHttpEntry,
+            JsonElement transObj, String sourceOfTruth, String transId, String outputMediaType, HttpHeaders headers,
+            UriInfo info, boolean complete, RequestDeadline deadline) {
+        Loader loader = resourceHttpEntry.getLoader();
+        TransactionalGraphEngine dbEngine = resourceHttpEntry.getDbEngine();
+        URI thisUri = null;
+        List<BulkOperation> bulkOperations = new ArrayList<>();
+        List<BulkOperationResponse> responses = new ArrayList<>();
+        HttpMethod method = null;
+        boolean success = false;
+        try {
+            deadline.check();
+            if (!transObj.isJsonObject()) {
+                throw new AAIException("AAI_6111", "input payload does not follow bulk interface");
+            }
+
+            fillBulkOperationsObjectFromTransaction(bulkOperations, transObj.getAsJsonObject(), loader, dbEngine,
+                    outputMediaType);
+            if (bulkOperations.isEmpty()) {
+                // case where user sends a validly formatted transactions object but
+                // which has no actual things in it for A&AI to do anything with
+                // assuming we should count this as a user error
+                throw new AAIException("AAI_6118", "payload had no objects to operate on");
+            }
 
-                    addExceptionCaseFailureResponse(allResponses, e, i, thisUri, headers, info, method);
+            List<DBRequest> requests = new ArrayList<>();
+            for (BulkOperation bulkOperation : bulkOperations) {
+                thisUri = bulkOperation.getUri();
+                method = bulkOperation.getHttpMethod();
+                QueryParser uriQuery = dbEngine.getQueryBuilder().createQueryFromURI(thisUri);
+                DBRequest request = new DBRequest.Builder(method, thisUri, uriQuery, bulkOperation.getIntrospector(),
+                        headers, bulkOperation.getUriInfo(), transId).rawRequestContent(bulkOperation.getRawReq())
+                                .build();
+                requests.add(request);
+            }
+
+            // the deadline is checked before and after, a transaction that ran past it is rolled back
+            deadline.check();
+            Pair<Boolean, List<Pair<URI, Response>>> results =
+                    resourceHttpEntry.process(requests, sourceOfTruth, this.enableResourceVersion());
+            deadline.check();
+            responses.addAll(BulkOperationResponse.processPairList(method, results.getValue1()));
+            success = results.getValue0();
+            if (complete) {
+                if (success) { // everything was processed without error
+                    dbEngine.commit();
+                } else { // something failed
                     dbEngine.rollback();
-                    continue; /*
-                               * if an exception gets thrown within a transaction we want to keep going to
-                               * the next transaction, not break out of the whole request
-                               */
                 }
             }
+        } catch (Exception e) {
+            /*
+             * While httpEntry.process handles its exceptions, exceptions thrown in earlier helpers
+             * bubbles up to here. As we want to tie error messages to the URI of the object that caused
+             * them, we catch here, generate a Response, bundle it with that URI, and move on.
+             */
+            if (!bulkOperations.isEmpty()) { // failed somewhere in the middle of bulkOperation-filling
+                BulkOperation lastBulkOperation = bulkOperations.get(bulkOperations.size() - 1); // last one in
+                                                                                                 // there was
+                                                                                                 // the problem
+                if (lastBulkOperation.getIntrospector() == null) {
+                    // failed out before thisUri could be set but after bulkOperations started being filled
+                    thisUri = lastBulkOperation.getUri();
+                    method = lastBulkOperation.getHttpMethod();
+                }
+            } // else failed out on empty payload so bulkOperations never filled (or failed out even earlier
+              // than bulkOperations-filling)
+
+            if (method == null) {
+                List<String> methods = new ArrayList<>();
+                if (transObj.isJsonObject()) {
+                    methods = transObj.getAsJsonObject().entrySet().stream().map(Entry::getKey)
+                            .collect(Collectors.toCollection(ArrayList::new));
+                }
 
-            String returnPayload = generateResponsePayload(allResponses);
+                if (methods.contains(BULK_PUT_METHOD)) {
+                    method = HttpMethod.PUT;
+                } else if (methods.contains(BULK_DELETE_METHOD)) {
+                    method = HttpMethod.DELETE;
+                } else if (methods.contains(BULK_PATCH_METHOD)) {
+                    method = HttpMethod.MERGE_PATCH;
+                } else {
+                    method = HttpMethod.PUT;
+                }
+            }
 
-            // unless a top level error gets thrown, we want to 201 bc the client wanted a "fire and forget" kind of
-            // setup
-            response = Response.status(Status.CREATED).entity(returnPayload).build();
-        } catch (AAIException e) { // these catches needed for handling top level errors in payload parsing where the
-                                   // whole request must fail out
-            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, e);
-        } catch (JsonSyntaxException e) {
-            AAIException ex = new AAIException("AAI_6111");
-            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, ex);
-        } catch (Exception e) {
-            AAIException ex = new AAIException("AAI_4000", e);
-            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, ex);
+            addExceptionCaseFailureResponse(responses, deadline.isExpired() ? deadline.timeout() : e, thisUri, headers,
+                    info, method);
+            success = false;
+            if (complete) {
+                dbEngine.rollback();
+            }
+        }
+        if (complete && success) {
+            invalidateGetResponseCache();
         }
+        return new Pair<>(success, responses);
+    }
 
-        return response;
+    /**
+     * Processes already parsed transactions outside of a request, as done by the bulk load tool.
+     * Up to batchSize consecutive transactions are committed together. If one transaction of a batch
+     * fails, the whole batch is rolled back and its transactions are executed again one by one,
+     * so that every transaction still succeeds or fails on its own.
+     * The notifications of a batch are only sent once it is committed, those of a rolled back batch are dropped.
+     * Up to concurrency batches run at once, the responses keep the order of the transactions.
+     *
+     * @param transactions the transactions
+     * @param batchSize the number of transactions committed together
+     * @param concurrency the maximum number of batches in flight at once
+     * @param version the schema version
+     * @param headers the headers
+     * @param info the info
+     * @return the response payload, in the format of the bulk endpoints
+     * @throws IOException if the response payload could not be generated
+     * @throws InterruptedException if interrupted while waiting for the batches
+     * @throws ExecutionException if a batch failed with an error it could not handle itself
+     */
+    public String processBatches(List<JsonElement> transactions, int batchSize, int concurrency,
+            SchemaVersion version, HttpHeaders headers, UriInfo info)
+            throws IOException, InterruptedException, ExecutionException {
+        String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
+        String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
+        String outputMediaType = getMediaType(headers.getAcceptableMediaTypes());
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+
+        List<Future<List<List<BulkOperationResponse>>>> results = new ArrayList<>();
+        for (int i = 0; i < transactions.size(); i += batchSize) {
+            List<JsonElement> batch = transactions.subList(i, Math.min(i + batchSize, transactions.size()));
+            if (concurrency > 1) {
+                results.add(BulkTransactionExecutor.getInstance().submit(
+                        () -> processBatch(batch, version, sourceOfTruth, transId, outputMediaType, headers, info),
+                        permits));
+            } else {
+                results.add(CompletableFuture.completedFuture(
+                        processBatch(batch, version, sourceOfTruth, transId, outputMediaType, headers, info)));
+            }
+        }
+
+        List<List<BulkOperationResponse>> allResponses = new ArrayList<>(transactions.size());
+        for (Future<List<List<BulkOperationResponse>>> result : results) {
+            allResponses.addAll(result.get());
+        }
+        return generateResponsePayload(allResponses);
+    }
+
+    private List<List<BulkOperationResponse>> processBatch(List<JsonElement> batch, SchemaVersion version,
+            String sourceOfTruth, String transId, String outputMediaType, HttpHeaders headers, UriInfo info) {
+        List<List<BulkOperationResponse>> responses = new ArrayList<>(batch.size());
+        if (batch.size() == 1) {
+            responses.add(processTransaction(batch.get(0), version, sourceOfTruth, transId, outputMediaType, headers,
+                    info, RequestDeadline.NONE));
+            return responses;
+        }
+
+        UEBNotification notification = new UEBNotification(introspectorFactoryType,
+                SpringContextAware.getBean(LoaderFactory.class),
+                (SchemaVersions) SpringContextAware.getBean("schemaVersions"));
+        HttpEntry resourceHttpEntry = SpringContextAware.getBean("traversalUriHttpEntry", HttpEntry.class);
+        resourceHttpEntry.setHttpEntryProperties(version, notification);
+        TransactionalGraphEngine dbEngine = resourceHttpEntry.getDbEngine();
+        boolean success = true;
+        for (JsonElement transObj : batch) {
+            Pair<Boolean, List<BulkOperationResponse>> result = executeTransaction(resourceHttpEntry, transObj,
+                    sourceOfTruth, transId, outputMediaType, headers, info, false, RequestDeadline.NONE);
+            responses.add(result.getValue1());
+            if (!result.getValue0()) {
+                success = false;
+                break;
+            }
+        }
+        if (success) {
+            try {
+                dbEngine.commit();
+            } catch (Exception e) {
+                LOGGER.warn("Commit of a batch of {} transactions failed, retrying them one by one: {}",
+                        batch.size(), e.getMessage());
+                success = false;
+            }
+        }
+        if (success) {
+            invalidateGetResponseCache();
+            try {
+                notification.triggerEvents();
+            } catch (AAIException e) {
+                LOGGER.warn("Notifications of a committed batch of {} transactions could not be sent: {}",
+                        batch.size(), e.getMessage());
+            }
+            return responses;
+        }
+        dbEngine.rollback();
+        // the retried transactions queue their own notifications
+        notification.clearEvents();
+
+        responses.clear();
+        for (JsonElement transObj : batch) {
+            responses.add(processTransaction(transObj, version, sourceOfTruth, transId, outputMediaType, headers,
+                    info, RequestDeadline.NONE));
+        }
+        return responses;
+    }
+
+    /**
+     * Drops the cached GET responses after a commit. The bulk load tool runs without the cache.
+     */
+    private static void invalidateGetResponseCache() {
+        SpringContextAware.getApplicationContext().getBeanProvider(GetResponseCache.class)
+                .ifAvailable(GetResponseCache::invalidateAll);
+    }
+
+    /**
+     * Generates the error payload the bulk endpoints return when a whole request fails.
+     *
+     * @param e the exception
+     * @param headers the headers
+     * @param info the info
+     * @return the error payload
+     */
+    public String generateErrorPayload(Exception e, HttpHeaders headers, UriInfo info) {
+        AAIException ex = e instanceof AAIException ? (AAIException) e : new AAIException("AAI_4000", e);
+        return (String) consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, ex).getEntity();
+    }
+
+    /**
+     * Gets the number of transactions of this request that may run at once.
+     * Transactions run one after another unless parallel execution is enabled and the
+     * client asks for it with the X-Bulk-Concurrency header, which is capped by the configured maximum.
+     *
+     * @param headers the headers
+     * @return the concurrency, 1 meaning sequential processing
+     */
+    private int getTransactionConcurrency(HttpHeaders headers) {
+        String requested = headers.getRequestHeaders().getFirst(BULK_CONCURRENCY_HEADER);
+        ResourcesConfig config = ResourcesConfig.current();
+        if (requested == null || !config.isBulkParallelEnabled()) {
+            return 1;
+        }
+        try {
+            int maxConcurrency = config.getBulkParallelMaxConcurrency();
+            return Math.max(1, Math.min(Integer.parseInt(requested.trim()), maxConcurrency));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
     }
 
     /**
      * Gets the transactions.
+     * Reading stops as soon as the payload limit is exceeded, so at most the allowed
+     * amount of transactions is ever held in memory.
      *
-     * @param content - input JSON payload string
+     * @param reader - reader of the input JSON payload
      * @return JsonArray - the array of transactions
      * @throws AAIException the AAI exception
-     * @throws JsonSyntaxException Parses and breaks the single payload into an array of individual transaction
+     * @throws IOException Parses and breaks the single payload into an array of individual transaction
      *         bodies to be processed.
      */
-    private JsonArray getTransactions(String content, HttpHeaders headers) throws AAIException, JsonSyntaxException {
-
-        JsonObject input = JsonParser.parseString(content).getAsJsonObject();
-        String module = getModule();
-
-        if (!(input.has("transactions"))) {
-            throw new AAIException("AAI_6118",
-                    String.format("input payload does not follow %s interface - missing \"transactions\"", module));
+    private JsonArray getTransactions(BulkTransactionReader reader) throws AAIException, IOException {
+        JsonArray transactions = new JsonArray();
+        int payLoadLimit = getPayLoadLimit();
+        int operationCount = 0;
+        JsonElement transaction;
+        while ((transaction = reader.next()) != null) {
+            transactions.add(transaction);
+            operationCount += getOperationCount(transaction);
+            if (transactions.size() > payLoadLimit || operationCount > payLoadLimit) {
+                throw new AAIException("AAI_6147",
+                        String.format("Payload limit of %s reached, please reduce payload.", payLoadLimit));
+            }
         }
-        JsonElement transactionsObj = input.get("transactions");
-
-        if (!(transactionsObj.isJsonArray())) {
-            throw new AAIException("AAI_6111", String.format("input payload does not follow %s interface", module));
+        if (transactions.size() == 0) {
+            // case where user sends a validly formatted transactions object but
+            // which has no actual things in it for A&AI to do anything with
+            // assuming we should count this as a user error
+            throw new AAIException("AAI_6118", "payload had no objects to operate on");
         }
-        JsonArray transactions = transactionsObj.getAsJsonArray();
-        validateRequest(transactions, headers);
         return transactions;
     }
 
@@ -390,9 +764,7 @@ public abstract class BulkConsumer extends RESTAPI {
                                     String.format("input payload does not follow %s interface", module));
                         }
                     }
-                    Gson gson = new GsonBuilder().serializeNulls().create();
-
-                    String bodyStr = gson.toJson(bodyObj);
+                    String bodyStr = GSON.toJson(bodyObj);
                     bulkOperation.setRawReq(bodyStr);
 
                     if (bulkOperation.getHttpMethod().equals(HttpMethod.PUT_EDGE)
@@ -453,46 +825,103 @@ public abstract class BulkConsumer extends RESTAPI {
      * 
      *         Creates the payload for a single unified response from all responses generated
      */
-    private String generateResponsePayload(List<List<BulkOperationResponse>> allResponses) {
-        JsonObject ret = new JsonObject();
-        JsonArray retArr = new JsonArray();
-
+    private String generateResponsePayload(List<List<BulkOperationResponse>> allResponses) throws IOException {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = newResponseWriter(out);
+        writer.beginObject().name("transaction").beginArray();
         for (List<BulkOperationResponse> responses : allResponses) {
-            JsonObject tResp = new JsonObject();
-            JsonArray tArrResp = new JsonArray();
-            HttpMethod method = HttpMethod.PUT;
-
-            for (BulkOperationResponse r : responses) {
-
-                JsonObject indPayload = new JsonObject();
-                method = r.getHttpMethod();
-
-                URI origURI = r.getUri();
-                if (origURI != null) {
-                    indPayload.addProperty("uri", origURI.getPath());
-                } else {
-                    indPayload.addProperty("uri", (String) null);
-                }
+            writeTransactionResponse(writer, responses);
+        }
+        writer.endArray().endObject();
+        writer.flush();
+        return out.toString();
+    }
 
-                JsonObject body = new JsonObject();
+    /**
+     * Writes the response payload while the transactions are processed.
+     * The entry of each transaction is flushed to the client as soon as that transaction has been
+     * committed or rolled back, so nothing but the transactions in flight is buffered.
+     * As the status has already been sent, errors that would fail the whole request are
+     * written as one more failed transaction instead.
+     *
+     * @param out the response stream
+     * @param transactions the source of the transactions
+     * @param concurrency the maximum number of transactions of this request in flight at once
+     * @param version the schema version
+     * @param sourceOfTruth the source of truth
+     * @param transId the transaction id
+     * @param outputMediaType the output media type
+     * @param headers the headers
+     * @param info the info
+     * @param deadline the deadline of the request
+     * @throws IOException if the response could not be written
+     */
+    private void writeResponsePayload(OutputStream out, TransactionSource transactions, int concurrency,
+            SchemaVersion version, String sourceOfTruth, String transId, String outputMediaType, HttpHeaders headers,
+            UriInfo info, RequestDeadline deadline) throws IOException {
+        JsonWriter writer = newResponseWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.beginObject().name("transaction").beginArray();
+        writer.flush();
+        try {
+            processTransactions(transactions, concurrency, version, sourceOfTruth, transId, outputMediaType, headers,
+                    info, deadline, responses -> {
+                        writeTransactionResponse(writer, responses);
+                        writer.flush();
+                    });
+        } catch (AAIException | JsonSyntaxException | MalformedJsonException | EOFException e) {
+            List<BulkOperationResponse> failure = new ArrayList<>();
+            addExceptionCaseFailureResponse(failure, e instanceof AAIException ? e : new AAIException("AAI_6111"),
+                    null, headers, info, HttpMethod.PUT);
+            writeTransactionResponse(writer, failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e);
+        }
+        writer.endArray().endObject();
+        writer.flush();
+    }
 
-                int rStatus = r.getResponse().getStatus();
-                String rContents = null;
+    private JsonWriter newResponseWriter(Writer out) {
+        // same escaping as the Gson serialization the payload was built with before
+        JsonWriter writer = new JsonWriter(out);
+        writer.setHtmlSafe(true);
+        return writer;
+    }
 
-                rContents = (String) r.getResponse().getEntity();
+    /**
+     * Writes the entry of one transaction of the response payload.
+     *
+     * @param writer the writer
+     * @param responses the responses from every action in the transaction
+     * @throws IOException if the entry could not be written
+     */
+    private void writeTransactionResponse(JsonWriter writer, List<BulkOperationResponse> responses)
+            throws IOException {
+        HttpMethod method = HttpMethod.PUT;
+        for (BulkOperationResponse r : responses) {
+            method = r.getHttpMethod();
+        }
 
-                body.addProperty(Integer.toString(rStatus), rContents);
-                indPayload.add("body", body);
+        writer.beginObject().name(this.mapHttpMethodToBulkMethod(method)).beginArray();
+        for (BulkOperationResponse r : responses) {
+            writer.beginObject();
 
-                tArrResp.add(indPayload);
+            URI origURI = r.getUri();
+            if (origURI != null) {
+                writer.name("uri").value(origURI.getPath());
+            } else {
+                writer.name("uri").nullValue();
             }
 
-            tResp.add(this.mapHttpMethodToBulkMethod(method), tArrResp);
-            retArr.add(tResp);
+            int rStatus = r.getResponse().getStatus();
+            String rContents = (String) r.getResponse().getEntity();
+            writer.name("body").beginObject().name(Integer.toString(rStatus)).value(rContents).endObject();
+
+            writer.endObject();
         }
-        ret.add("transaction", retArr);
-        Gson gson = new GsonBuilder().serializeNulls().create();
-        return gson.toJson(ret);
+        writer.endArray().endObject();
     }
 
     private String mapHttpMethodToBulkMethod(HttpMethod method) {
@@ -510,17 +939,15 @@ public abstract class BulkConsumer extends RESTAPI {
     /**
      * Adds the exception case failure response.
      *
-     * @param allResponses the all responses
+     * @param responses the responses of the transaction being processed when the exception was thrown
      * @param e the e
-     * @param index - index of which transaction was being processed when the exception was thrown
      * @param thisUri the this uri
      * @param headers the headers
      * @param info the info
      * @param templateAction the template action
-     * @throws ErrorObjectNotFoundException
      */
-    private void addExceptionCaseFailureResponse(List<List<BulkOperationResponse>> allResponses, Exception e, int index,
-            URI thisUri, HttpHeaders headers, UriInfo info, HttpMethod templateAction) {
+    private void addExceptionCaseFailureResponse(List<BulkOperationResponse> responses, Exception e, URI thisUri,
+            HttpHeaders headers, UriInfo info, HttpMethod templateAction) {
         AAIException ex = null;
 
         if (!(e instanceof AAIException)) {
@@ -529,74 +956,78 @@ public abstract class BulkConsumer extends RESTAPI {
             ex = (AAIException) e;
         }
 
-        if (allResponses.size() != (index + 1)) {
-            // index+1 bc if all transactions thus far have had a response list added
-            // the size will be one more than the current index (since those are offset by 1)
-
-            // this transaction doesn't have a response list yet, so create one
-            Response failResp = consumerExceptionResponseGenerator(headers, info, templateAction, ex);
-            BulkOperationResponse uriResp = new BulkOperationResponse(templateAction, thisUri, failResp);
-            List<BulkOperationResponse> transRespList = new ArrayList<>();
-            transRespList.add(uriResp);
-            allResponses.add(transRespList);
-        } else {
-            // this transaction already has a response list, so add this failure response to it
-            Response failResp = consumerExceptionResponseGenerator(headers, info, templateAction, ex);
-            BulkOperationResponse uriResp = new BulkOperationResponse(templateAction, thisUri, failResp);
-            List<BulkOperationResponse> tResps = allResponses.get(index);
-            tResps.add(uriResp);
-        }
+        Response failResp = consumerExceptionResponseGenerator(headers, info, templateAction, ex);
+        responses.add(new BulkOperationResponse(templateAction, thisUri, failResp));
     }
 
     /**
      * Pulls the config value for the limit of operations allowed in a bulk add/process request
-     *
-     * @throws AAIException
      */
-    private int getPayLoadLimit() throws AAIException {
-        return Integer.parseInt(AAIConfig.get(AAIConstants.AAI_BULKCONSUMER_LIMIT));
+    private int getPayLoadLimit() {
+        return ResourcesConfig.current().getBulkConsumerLimit();
     }
 
     /**
-     * Validates the amount of operations in a request payload is allowed
+     * Checks whether the request overrides the limit of operations allowed in a bulk add/process request
      *
-     * @param transactions - a JsonArray of all the transactions in the request payload
-     * @throws AAIException
+     * @param headers the headers
+     * @return true if the X-OverrideLimit header matches the configured override
      */
-    private void validateRequest(JsonArray transactions, HttpHeaders headers) throws AAIException {
+    private boolean isOverrideLimit(HttpHeaders headers) {
         String overrideLimit = headers.getRequestHeaders().getFirst("X-OverrideLimit");
-        boolean isOverride =
-                overrideLimit != null && !AAIConfig.get(AAIConstants.AAI_BULKCONSUMER_OVERRIDE_LIMIT).equals("false")
-                        && overrideLimit.equals(AAIConfig.get(AAIConstants.AAI_BULKCONSUMER_OVERRIDE_LIMIT));
-        if (transactions.size() == 0) {
-            // case where user sends a validly formatted transactions object but
-            // which has no actual things in it for A&AI to do anything with
-            // assuming we should count this as a user error
-            throw new AAIException("AAI_6118", "payload had no objects to operate on");
-        } else if (!isOverride && transactions.size() > getPayLoadLimit()) {
-            throw new AAIException("AAI_6147",
-                    String.format("Payload limit of %s reached, please reduce payload.", getPayLoadLimit()));
+        return ResourcesConfig.current().isBulkConsumerOverride(overrideLimit);
+    }
+
+    /**
+     * Counts the operations of a transaction towards the payload limit
+     *
+     * @param transaction - a transaction of the request payload
+     * @return the number of operations in the transaction
+     */
+    private int getOperationCount(JsonElement transaction) {
+        if (!transaction.isJsonObject()) {
+            return 1;
         }
-        if (!isOverride) {
-            int operationCount = 0;
-            int payLoadLimit = getPayLoadLimit();
-            for (int i = 0; i < transactions.size(); i++) {
-                Set<Entry<String, JsonElement>> entrySet = transactions.get(i).getAsJsonObject().entrySet();
-                Iterator<Entry<String, JsonElement>> it = entrySet.iterator();
-                while (it.hasNext()) {
-                    Map.Entry<String, JsonElement> element = it.next();
-                    if (element.getValue() instanceof JsonArray) {
-                        operationCount += ((JsonArray) element.getValue()).size();
-                    } else {
-                        operationCount++;
-                    }
-                }
-                if (operationCount > payLoadLimit) {
-                    throw new AAIException("AAI_6147",
-                            String.format("Payload limit of %s reached, please reduce payload.", payLoadLimit));
-                }
+        int operationCount = 0;
+        for (Map.Entry<String, JsonElement> element : transaction.getAsJsonObject().entrySet()) {
+            if (element.getValue() instanceof JsonArray) {
+                operationCount += ((JsonArray) element.getValue()).size();
+            } else {
+                operationCount++;
             }
         }
+        return operationCount;
+    }
+
+    /**
+     * Checks whether the client asked for the results to be streamed while the transactions are processed
+     *
+     * @param headers the headers
+     * @return true if the X-Bulk-Streaming header is set to true
+     */
+    private boolean isStreamingResponse(HttpHeaders headers) {
+        return "true".equalsIgnoreCase(headers.getRequestHeaders().getFirst(BULK_STREAMING_HEADER));
+    }
+
+    /**
+     * Supplies the transactions of a bulk payload one at a time.
+     */
+    @FunctionalInterface
+    private interface TransactionSource {
+
+        /**
+         * @return the next transaction or null if there are no more
+         */
+        JsonElement next() throws AAIException, IOException;
+    }
+
+    /**
+     * Receives the responses of the transactions of a bulk payload in order.
+     */
+    @FunctionalInterface
+    private interface TransactionResponseHandler {
+
+        void accept(List<BulkOperationResponse> responses) throws IOException;
     }
 
     protected abstract String getModule();
@@ -24,10 +24,14 @@ import io.micrometer.core.annotation.Timed;
 
 import jakarta.ws.rs.Path;
 
+import org.onap.aai.interceptors.GraphAccess;
 import org.onap.aai.restcore.HttpMethod;
+import org.springframework.stereotype.Controller;
 
+@GraphAccess
 @Path("{version: v[1-9][0-9]*|latest}/bulkprocess")
 @Timed
+@Controller
 public class BulkProcessConsumer extends BulkConsumer {
 
     @Override
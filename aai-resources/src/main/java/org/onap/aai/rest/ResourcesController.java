@@ -30,15 +30,15 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.*;
 import jakarta.ws.rs.core.Response.Status;
 
-import org.onap.aai.concurrent.AaiCallable;
+import org.onap.aai.interceptors.GraphAccess;
 import org.onap.aai.introspection.Introspector;
 import org.onap.aai.query.builder.Pageable;
 import org.onap.aai.restcore.HttpMethod;
 import org.onap.aai.restcore.RESTAPI;
 import org.onap.aai.service.ResourcesService;
-import org.onap.aai.util.AAIConstants;
 import org.springframework.stereotype.Controller;
 
+@GraphAccess
 @Timed
 @Controller
 @RequiredArgsConstructor
@@ -132,14 +132,9 @@ public class ResourcesController extends RESTAPI {
             ? new Pageable(resultIndex -1, resultSize)
             : new Pageable(resultIndex -1, resultSize).includeTotalCount();
 
-        return runner(AAIConstants.AAI_CRUD_TIMEOUT_ENABLED, AAIConstants.AAI_CRUD_TIMEOUT_APP,
-                AAIConstants.AAI_CRUD_TIMEOUT_LIMIT, headers, info, HttpMethod.GET, new AaiCallable<Response>() {
-                    @Override
-                    public Response process() {
-                        return resourcesService.getLegacy(versionParam, uri, depthParam, cleanUp, headers, info, req,
-                                new HashSet<String>(), pageable);
-                    }
-                });
+        // the crud timeout is applied by the request deadline of the service
+        return resourcesService.getLegacy(versionParam, uri, depthParam, cleanUp, headers, info, req,
+                new HashSet<String>(), pageable);
     }
 
     @DELETE
@@ -190,13 +185,7 @@ public class ResourcesController extends RESTAPI {
         Pageable pageable = includeTotalCount == false
             ? new Pageable(resultIndex -1, resultSize)
             : new Pageable(resultIndex -1, resultSize).includeTotalCount();
-        return runner(AAIConstants.AAI_CRUD_TIMEOUT_ENABLED, AAIConstants.AAI_CRUD_TIMEOUT_APP,
-                AAIConstants.AAI_CRUD_TIMEOUT_LIMIT, headers, info, HttpMethod.GET, new AaiCallable<Response>() {
-                    @Override
-                    public Response process() {
-                        return resourcesService.getRelationshipList(versionParam, req, uri, cleanUp, headers, info, pageable);
-                    }
-                });
+        return resourcesService.getRelationshipList(versionParam, req, uri, cleanUp, headers, info, pageable);
     }
 
     protected boolean isEmptyObject(Introspector obj) {
@@ -22,11 +22,17 @@ package org.onap.aai.rest;
 
 import io.micrometer.core.annotation.Timed;
 
+import com.google.gson.JsonObject;
+
 import java.net.URI;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
@@ -36,6 +42,7 @@ import jakarta.ws.rs.core.Response.Status;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.onap.aai.config.SpringContextAware;
 import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.GraphAccess;
 import org.onap.aai.introspection.ModelType;
 import org.onap.aai.rest.db.HttpEntry;
 import org.onap.aai.restcore.HttpMethod;
@@ -43,13 +50,19 @@ import org.onap.aai.restcore.RESTAPI;
 import org.onap.aai.serialization.db.DBSerializer;
 import org.onap.aai.serialization.engines.TransactionalGraphEngine;
 import org.onap.aai.setup.SchemaVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The Class URLFromVertexIdConsumer.
  */
+@GraphAccess
 @Timed
 @Path("{version: v[1-9][0-9]*|latest}/generateurl")
 public class URLFromVertexIdConsumer extends RESTAPI {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(URLFromVertexIdConsumer.class);
+
     private ModelType introspectorFactoryType = ModelType.MOXY;
 
     private final String ID_ENDPOINT = "/id/{vertexid: \\d+}";
@@ -97,7 +110,6 @@ public class URLFromVertexIdConsumer extends RESTAPI {
             result.insert(0, serverBase);
             response = Response.ok().entity(result.toString()).status(Status.OK).type(MediaType.TEXT_PLAIN).build();
         } catch (AAIException e) {
-            // TODO check that the details here are sensible
             response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, e);
         } catch (Exception e) {
             AAIException ex = new AAIException("AAI_4000", e);
@@ -109,4 +121,61 @@ public class URLFromVertexIdConsumer extends RESTAPI {
         }
         return response;
     }
+
+    /**
+     * Generate the urls of many vertex ids, e.g. {"ids": [4096, 8192]}.
+     * The vertices are fetched with one multi-get, ids without a vertex or whose url cannot be generated
+     * are left out of the result.
+     *
+     * @param content the payload
+     * @param versionParam the version param
+     * @param headers the headers
+     * @param info the info
+     * @param req the req
+     * @return the urls by vertex id
+     */
+    @POST
+    @Path(VertexIds.IDS_ENDPOINT)
+    @Consumes({MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_JSON})
+    public Response generateUrlsFromVertexIds(String content, @PathParam("version") String versionParam,
+            @Context HttpHeaders headers, @Context UriInfo info, @Context HttpServletRequest req) {
+
+        String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
+
+        SchemaVersion version = new SchemaVersion(versionParam);
+        Response response;
+        TransactionalGraphEngine dbEngine = null;
+        try {
+            List<Long> ids = VertexIds.parse(content, headers);
+            HttpEntry resourceHttpEntry = SpringContextAware.getBean("traversalUriHttpEntry", HttpEntry.class);
+            String serverBase = req.getRequestURL().toString().replaceAll("/(v[0-9]+|latest)/.*", "/");
+            resourceHttpEntry.setHttpEntryProperties(version, serverBase);
+            dbEngine = resourceHttpEntry.getDbEngine();
+
+            DBSerializer serializer = new DBSerializer(version, dbEngine, introspectorFactoryType, sourceOfTruth);
+
+            JsonObject urls = new JsonObject();
+            for (Map.Entry<Long, Vertex> vertex : VertexIds.fetch(dbEngine, ids).entrySet()) {
+                try {
+                    URI uri = serializer.getURIForVertex(vertex.getValue());
+                    urls.addProperty(vertex.getKey().toString(), serverBase + version + uri.getRawPath());
+                } catch (Exception e) {
+                    LOGGER.debug("Vertex {} is left out: {}", vertex.getKey(), e.getMessage());
+                }
+            }
+            response = Response.ok().entity(VertexIds.toJson("urls", urls)).status(Status.OK)
+                    .type(MediaType.APPLICATION_JSON).build();
+        } catch (AAIException e) {
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, e);
+        } catch (Exception e) {
+            AAIException ex = new AAIException("AAI_4000", e);
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, ex);
+        } finally {
+            if (dbEngine != null) {
+                dbEngine.rollback();
+            }
+        }
+        return response;
+    }
 }
@@ -20,12 +20,16 @@
 
 package org.onap.aai.rest;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import io.micrometer.core.annotation.Timed;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.*;
@@ -36,6 +40,7 @@ import org.javatuples.Pair;
 import org.onap.aai.config.SpringContextAware;
 import org.onap.aai.db.props.AAIProperties;
 import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.GraphAccess;
 import org.onap.aai.introspection.Introspector;
 import org.onap.aai.introspection.Loader;
 import org.onap.aai.introspection.MarshallerProperties;
@@ -43,18 +48,24 @@ import org.onap.aai.introspection.ModelType;
 import org.onap.aai.parsers.query.QueryParser;
 import org.onap.aai.rest.db.DBRequest;
 import org.onap.aai.rest.db.HttpEntry;
+import org.onap.aai.rest.util.RequestDeadline;
 import org.onap.aai.restcore.HttpMethod;
 import org.onap.aai.restcore.RESTAPI;
 import org.onap.aai.serialization.engines.TransactionalGraphEngine;
 import org.onap.aai.setup.SchemaVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The Class VertexIdConsumer.
  */
+@GraphAccess
 @Path("{version: v[1-9][0-9]*|latest}/resources")
 @Timed
 public class VertexIdConsumer extends RESTAPI {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(VertexIdConsumer.class);
+
     private ModelType introspectorFactoryType = ModelType.MOXY;
 
     private final String ID_ENDPOINT = "/id/{vertexid: \\d+}";
@@ -83,6 +94,7 @@ public class VertexIdConsumer extends RESTAPI {
         String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
         String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
         SchemaVersion version = new SchemaVersion(versionParam);
+        RequestDeadline deadline = RequestDeadline.forRequest(headers);
         Response response = null;
         TransactionalGraphEngine dbEngine = null;
         try {
@@ -115,13 +127,15 @@ public class VertexIdConsumer extends RESTAPI {
 
             List<DBRequest> requests = new ArrayList<>();
             requests.add(request);
+            deadline.check();
             Pair<Boolean, List<Pair<URI, Response>>> responsesTuple =
                     resourceHttpEntry.process(requests, sourceOfTruth);
+            deadline.check();
             response = responsesTuple.getValue1().get(0).getValue1();
         } catch (AAIException e) {
             response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, e);
         } catch (Exception e) {
-            AAIException ex = new AAIException("AAI_4000", e);
+            AAIException ex = deadline.isExpired() ? deadline.timeout() : new AAIException("AAI_4000", e);
             response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, ex);
         } finally { // to close the janusgraph transaction (I think)
             if (dbEngine != null) {
@@ -130,4 +144,94 @@ public class VertexIdConsumer extends RESTAPI {
         }
         return response;
     }
+
+    /**
+     * Gets the objects of many vertex ids, e.g. {"ids": [4096, 8192]}.
+     * The vertices are fetched with one multi-get and read in one transaction, the depth and nodes-only
+     * query params apply to all objects. Ids without a vertex or whose object cannot be read are left out
+     * of the result.
+     *
+     * @param content the payload
+     * @param versionParam the version param
+     * @param headers the headers
+     * @param info the info
+     * @param req the req
+     * @return the objects by vertex id
+     */
+    @POST
+    @Path(VertexIds.IDS_ENDPOINT)
+    @Consumes({MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_JSON})
+    public Response getByVertexIds(String content, @PathParam("version") String versionParam,
+            @Context HttpHeaders headers, @Context UriInfo info, @Context HttpServletRequest req) {
+
+        String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
+        String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
+        SchemaVersion version = new SchemaVersion(versionParam);
+        RequestDeadline deadline = RequestDeadline.forRequest(headers);
+        Response response = null;
+        TransactionalGraphEngine dbEngine = null;
+        try {
+            List<Long> ids = VertexIds.parse(content, headers);
+            HttpEntry resourceHttpEntry = SpringContextAware.getBean("traversalUriHttpEntry", HttpEntry.class);
+            resourceHttpEntry.setHttpEntryProperties(version);
+            dbEngine = resourceHttpEntry.getDbEngine();
+            Loader loader = resourceHttpEntry.getLoader();
+
+            Map<Long, Vertex> vertices = VertexIds.fetch(dbEngine, ids);
+            deadline.check();
+            URI uriObject = UriBuilder.fromPath(info.getPath()).build();
+            MarshallerProperties marshallerProperties =
+                    new MarshallerProperties.Builder(org.onap.aai.restcore.MediaType.APPLICATION_JSON_TYPE)
+                            .includeRoot(true).build();
+            List<Long> requestIds = new ArrayList<>(vertices.size());
+            List<DBRequest> requests = new ArrayList<>(vertices.size());
+            for (Map.Entry<Long, Vertex> vertex : vertices.entrySet()) {
+                String objName = vertex.getValue().<String>property(AAIProperties.NODE_TYPE).orElse(null);
+                if (objName == null) {
+                    LOGGER.debug("Vertex {} without a node type is left out", vertex.getKey());
+                    continue;
+                }
+                try {
+                    QueryParser query =
+                            dbEngine.getQueryBuilder(vertex.getValue()).createQueryFromObjectName(objName);
+                    Introspector obj = loader.introspectorFromName(query.getResultType());
+                    requests.add(new DBRequest.Builder(HttpMethod.GET, uriObject, query, obj, headers, info,
+                            transId).customMarshaller(marshallerProperties).build());
+                    requestIds.add(vertex.getKey());
+                } catch (AAIException e) {
+                    LOGGER.debug("Vertex {} of type {} is left out: {}", vertex.getKey(), objName, e.getMessage());
+                }
+            }
+
+            JsonObject objects = new JsonObject();
+            if (!requests.isEmpty()) {
+                deadline.check();
+                Pair<Boolean, List<Pair<URI, Response>>> responsesTuple =
+                        resourceHttpEntry.process(requests, sourceOfTruth);
+                deadline.check();
+                Iterator<Long> idItr = requestIds.iterator();
+                for (Pair<URI, Response> result : responsesTuple.getValue1()) {
+                    Long id = idItr.next();
+                    Response objectResponse = result.getValue1();
+                    if (objectResponse.getStatus() != Response.Status.OK.getStatusCode()) {
+                        LOGGER.debug("Vertex {} is left out with status {}", id, objectResponse.getStatus());
+                        continue;
+                    }
+                    objects.add(id.toString(), JsonParser.parseString(objectResponse.getEntity().toString()));
+                }
+            }
+            response = Response.ok(VertexIds.toJson("objects", objects)).type(MediaType.APPLICATION_JSON).build();
+        } catch (AAIException e) {
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, e);
+        } catch (Exception e) {
+            AAIException ex = deadline.isExpired() ? deadline.timeout() : new AAIException("AAI_4000", e);
+            response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, ex);
+        } finally {
+            if (dbEngine != null) {
+                dbEngine.rollback();
+            }
+        }
+        return response;
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.serialization.engines.TransactionalGraphEngine;
+import org.onap.aai.util.ResourcesConfig;
+
+/**
+ * Parses and resolves the {"ids": [...]} payload of the batch vertex id endpoints.
+ */
+final class VertexIds {
+
+    static final String IDS_ENDPOINT = "/ids";
+
+    private VertexIds() {}
+
+    /**
+     * Parses the vertex ids of the payload, at most aai.bulk.read.limit unless X-OverrideLimit is set.
+     *
+     * @param content the payload
+     * @param headers the headers
+     * @return the vertex ids in payload order
+     * @throws AAIException if the payload is invalid or has too many ids
+     */
+    static List<Long> parse(String content, HttpHeaders headers) throws AAIException {
+        JsonArray ids;
+        try {
+            JsonElement element = JsonParser.parseString(content).getAsJsonObject().get("ids");
+            ids = element == null ? null : element.getAsJsonArray();
+        } catch (Exception e) {
+            throw new AAIException("AAI_6111", "Input payload does not follow the vertex ids interface");
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new AAIException("AAI_6118", " Payload has no vertex ids");
+        }
+        ResourcesConfig config = ResourcesConfig.current();
+        String overrideLimit = headers.getRequestHeaders().getFirst("X-OverrideLimit");
+        if (!config.isBulkConsumerOverride(overrideLimit) && ids.size() > config.getBulkReadLimit()) {
+            throw new AAIException("AAI_6147", " Allowed limit = " + config.getBulkReadLimit());
+        }
+        List<Long> result = new ArrayList<>(ids.size());
+        for (JsonElement id : ids) {
+            try {
+                result.add(id.getAsLong());
+            } catch (RuntimeException e) {
+                throw new AAIException("AAI_6111", "Invalid vertex id " + id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fetches the vertices with one multi-get, ids without a vertex are left out.
+     *
+     * @param dbEngine the db engine
+     * @param ids the vertex ids
+     * @return the vertices by id, in the order of the ids
+     */
+    static Map<Long, Vertex> fetch(TransactionalGraphEngine dbEngine, List<Long> ids) {
+        Map<Long, Vertex> found = new LinkedHashMap<>();
+        dbEngine.asAdmin().getTraversalSource().V(ids.toArray())
+                .forEachRemaining(v -> found.put(((Number) v.id()).longValue(), v));
+        Map<Long, Vertex> vertices = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Vertex v = found.get(id);
+            if (v != null) {
+                vertices.put(id, v);
+            }
+        }
+        return vertices;
+    }
+
+    /**
+     * Wraps the results per vertex id in a json object under the given name.
+     *
+     * @param name the name of the results
+     * @param results the results by vertex id
+     * @return the json payload
+     */
+    static String toJson(String name, JsonObject results) {
+        JsonObject payload = new JsonObject();
+        payload.add(name, results);
+        return payload.toString();
+    }
+}
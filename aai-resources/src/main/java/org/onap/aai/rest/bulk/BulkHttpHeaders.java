@@ -0,0 +1,152 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.internal.util.collection.StringKeyIgnoreCaseMultivaluedMap;
+
+/**
+ * Detached copy of the headers of a request.
+ *
+ * Bulk work that runs outside of the request thread must not touch the request scoped
+ * HttpHeaders of the container, so the values needed by the db layer are copied here.
+ */
+public class BulkHttpHeaders implements HttpHeaders {
+
+    private final MultivaluedMap<String, String> requestHeaders = new StringKeyIgnoreCaseMultivaluedMap<>();
+    private final List<MediaType> acceptableMediaTypes = new ArrayList<>();
+    private final List<Locale> acceptableLanguages = new ArrayList<>();
+    private final Map<String, Cookie> cookies = new HashMap<>();
+    private final MediaType mediaType;
+    private final Locale language;
+    private final Date date;
+    private final int length;
+
+    public BulkHttpHeaders(HttpHeaders headers) {
+        if (headers.getRequestHeaders() != null) {
+            headers.getRequestHeaders().forEach((key, values) -> requestHeaders.put(key, new ArrayList<>(values)));
+        }
+        if (headers.getAcceptableMediaTypes() != null) {
+            acceptableMediaTypes.addAll(headers.getAcceptableMediaTypes());
+        }
+        if (headers.getAcceptableLanguages() != null) {
+            acceptableLanguages.addAll(headers.getAcceptableLanguages());
+        }
+        if (headers.getCookies() != null) {
+            cookies.putAll(headers.getCookies());
+        }
+        this.mediaType = headers.getMediaType();
+        this.language = headers.getLanguage();
+        this.date = headers.getDate();
+        this.length = headers.getLength();
+    }
+
+    /**
+     * Creates the headers of a json request that does not come in through the container,
+     * as sent by the bulk load tool.
+     *
+     * @param requestHeaders the request headers
+     */
+    public BulkHttpHeaders(Map<String, String> requestHeaders) {
+        requestHeaders.forEach(this.requestHeaders::putSingle);
+        this.acceptableMediaTypes.add(MediaType.APPLICATION_JSON_TYPE);
+        this.mediaType = MediaType.APPLICATION_JSON_TYPE;
+        this.language = null;
+        this.date = null;
+        this.length = -1;
+    }
+
+    /**
+     * Removes a header from the copy, used to drop request options
+     * that do not apply to the detached execution.
+     *
+     * @param name the header name
+     */
+    public void removeRequestHeader(String name) {
+        requestHeaders.remove(name);
+    }
+
+    @Override
+    public List<String> getRequestHeader(String name) {
+        return requestHeaders.get(name);
+    }
+
+    @Override
+    public String getHeaderString(String name) {
+        List<String> values = requestHeaders.get(name);
+        if (values == null) {
+            return null;
+        }
+        return String.join(",", values);
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    @Override
+    public List<MediaType> getAcceptableMediaTypes() {
+        return Collections.unmodifiableList(acceptableMediaTypes);
+    }
+
+    @Override
+    public List<Locale> getAcceptableLanguages() {
+        return Collections.unmodifiableList(acceptableLanguages);
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public Locale getLanguage() {
+        return language;
+    }
+
+    @Override
+    public Map<String, Cookie> getCookies() {
+        return Collections.unmodifiableMap(cookies);
+    }
+
+    @Override
+    public Date getDate() {
+        return date;
+    }
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+}
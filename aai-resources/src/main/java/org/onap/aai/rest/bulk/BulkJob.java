@@ -0,0 +1,136 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import java.time.Instant;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * State of a bulk request that is processed asynchronously.
+ * The fields are written by the worker running the job and read by the status requests.
+ */
+public class BulkJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final String type;
+    private final Instant created = Instant.now();
+    private volatile Instant started;
+    private volatile Instant finished;
+    private volatile Status status = Status.QUEUED;
+    private volatile int resultStatus;
+    private volatile String result;
+
+    public BulkJob(String id, String type) {
+        this.id = id;
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getResultStatus() {
+        return resultStatus;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public void start() {
+        started = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    public void complete(Response response) {
+        resultStatus = response.getStatus();
+        result = response.getEntity() == null ? null : response.getEntity().toString();
+        finished = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        result = message;
+        finished = Instant.now();
+        status = Status.FAILED;
+    }
+
+    /**
+     * Builds the status document of the job, including the result once the job is done.
+     *
+     * @return the status of the job as json
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("job-id", id);
+        json.addProperty("job-type", type);
+        json.addProperty("status", status.name().toLowerCase());
+        json.addProperty("created", created.toString());
+        if (started != null) {
+            json.addProperty("started", started.toString());
+        }
+        if (finished != null) {
+            json.addProperty("finished", finished.toString());
+        }
+        if (status == Status.COMPLETED) {
+            json.addProperty("result-status", resultStatus);
+            json.add("result", parseResult());
+        } else if (status == Status.FAILED) {
+            json.addProperty("error", result);
+        }
+        return json;
+    }
+
+    private JsonElement parseResult() {
+        if (result == null) {
+            return null;
+        }
+        try {
+            return JsonParser.parseString(result);
+        } catch (JsonSyntaxException e) {
+            JsonObject raw = new JsonObject();
+            raw.addProperty("raw", result);
+            return raw;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import io.micrometer.core.annotation.Timed;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.rest.BulkProcessConsumer;
+import org.onap.aai.rest.util.RequestDeadline;
+import org.onap.aai.restcore.HttpMethod;
+import org.onap.aai.restcore.RESTAPI;
+import org.onap.aai.service.BulkJobService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Controller;
+
+/**
+ * Asynchronous variants of the bulk process and single transaction endpoints.
+ * The payload is accepted with 202 and a job id, the work is done by the {@link BulkJobService}
+ * and the client polls the job resource for its status and result.
+ * The payload is streamed from the request into the spool file of the job without being held in memory.
+ */
+@Timed
+@Controller
+@Path("{version: v[1-9][0-9]*|latest}/bulk/jobs")
+public class BulkJobConsumer extends RESTAPI {
+
+    private static final String BULK_STREAMING_HEADER = "X-Bulk-Streaming";
+
+    private final BulkJobService bulkJobService;
+    private final BulkProcessConsumer bulkProcessConsumer;
+    private final String uriPrefix;
+
+    public BulkJobConsumer(BulkJobService bulkJobService, BulkProcessConsumer bulkProcessConsumer,
+            @Value("${schema.uri.base.path}") String uriPrefix) {
+        this.bulkJobService = bulkJobService;
+        this.bulkProcessConsumer = bulkProcessConsumer;
+        this.uriPrefix = uriPrefix;
+    }
+
+    @PUT
+    @Path("/bulkprocess")
+    @Consumes({MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_JSON})
+    public Response bulkProcess(InputStream content, @PathParam("version") String versionParam,
+            @Context HttpHeaders headers, @Context UriInfo info) {
+        BulkHttpHeaders jobHeaders = new BulkHttpHeaders(headers);
+        // the result of a job is kept as a whole, so it cannot be streamed
+        jobHeaders.removeRequestHeader(BULK_STREAMING_HEADER);
+        BulkUriInfo jobInfo = new BulkUriInfo(info);
+        return submit("bulkprocess", content, versionParam, headers, info, HttpMethod.PUT,
+                payload -> bulkProcessConsumer.bulkProcessor(payload, versionParam, jobHeaders, jobInfo,
+                        RequestDeadline.NONE));
+    }
+
+    @POST
+    @Path("/single-transaction")
+    @Consumes({MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_JSON})
+    public Response singleTransaction(InputStream content, @PathParam("version") String versionParam,
+            @Context HttpHeaders headers, @Context UriInfo info) {
+        BulkHttpHeaders jobHeaders = new BulkHttpHeaders(headers);
+        BulkUriInfo jobInfo = new BulkUriInfo(info);
+        // the consumer keeps the operation limit of its request and validates the transaction as a whole,
+        // so each job gets its own and reads the payload once it runs
+        return submit("single-transaction", content, versionParam, headers, info, HttpMethod.POST,
+                payload -> new BulkSingleTransactionConsumer(uriPrefix).process(
+                        new String(payload.readAllBytes(), StandardCharsets.UTF_8), versionParam, jobHeaders, jobInfo,
+                        RequestDeadline.NONE));
+    }
+
+    @GET
+    @Path("/{jobId}")
+    @Produces({MediaType.APPLICATION_JSON})
+    public Response getJob(@PathParam("version") String versionParam, @PathParam("jobId") String jobId,
+            @Context HttpHeaders headers, @Context UriInfo info) {
+        return bulkJobService.getJob(jobId)
+                .map(job -> Response.ok(job.toJson().toString(), MediaType.APPLICATION_JSON_TYPE).build())
+                .orElseGet(() -> consumerExceptionResponseGenerator(headers, info, HttpMethod.GET,
+                        new AAIException("AAI_6114", "bulk job " + jobId + " not found")));
+    }
+
+    private Response submit(String type, InputStream content, String versionParam, HttpHeaders headers,
+            UriInfo info, HttpMethod action, BulkJobService.Work work) {
+        try {
+            BulkJob job = bulkJobService.submit(type, content, work);
+            URI location = info.getBaseUriBuilder().path(versionParam).path("bulk/jobs").path(job.getId()).build();
+            return Response.status(Status.ACCEPTED).location(location).type(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(job.toJson().toString()).build();
+        } catch (AAIException e) {
+            return consumerExceptionResponseGenerator(headers, info, action, e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import com.google.gson.Gson;
+
+import io.micrometer.core.annotation.Timed;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.onap.aai.config.SpringContextAware;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.GraphAccess;
+import org.onap.aai.introspection.Introspector;
+import org.onap.aai.introspection.Loader;
+import org.onap.aai.parsers.query.QueryParser;
+import org.onap.aai.rest.bulk.pojos.Reads;
+import org.onap.aai.rest.db.DBRequest;
+import org.onap.aai.rest.db.HttpEntry;
+import org.onap.aai.rest.util.RequestDeadline;
+import org.onap.aai.restcore.HttpMethod;
+import org.onap.aai.restcore.RESTAPI;
+import org.onap.aai.serialization.engines.TransactionalGraphEngine;
+import org.onap.aai.setup.SchemaVersion;
+import org.onap.aai.util.ResourcesConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Reads many objects by uri in one request, e.g. {"uris": ["/cloud-infrastructure/pservers/pserver/p1"]}.
+ *
+ * The depth, format and nodes-only query params of the request apply to all uris,
+ * a uri can override them with its own query params.
+ * The uris are read in one read transaction and every response is written and flushed as soon as it is read,
+ * in the format of the bulk/single-transaction operation responses with the body of each as raw json.
+ * The uris are read one after another, as all are read in the one transaction and written in their order.
+ */
+@GraphAccess
+@Path(value = "{version: v[1-9][0-9]*|latest}/bulk/read")
+@Timed
+@Controller
+public class BulkReadConsumer extends RESTAPI {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkReadConsumer.class);
+
+    private static final String READ_ACTION = "get";
+
+    private final String uriPrefix;
+
+    public BulkReadConsumer(@Value("${schema.uri.base.path}") String uriPrefix) {
+        this.uriPrefix = uriPrefix;
+    }
+
+    @POST
+    @Consumes(value = MediaType.APPLICATION_JSON)
+    @Produces(value = MediaType.APPLICATION_JSON)
+    public Response process(String content, @PathParam(value = "version") String versionParam,
+            @Context HttpHeaders headers, @Context UriInfo info, @Context HttpServletRequest req) {
+
+        String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
+        String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
+        SchemaVersion version = new SchemaVersion(versionParam);
+        RequestDeadline deadline = RequestDeadline.forRequest(headers);
+
+        try {
+            Reads reads;
+            try {
+                reads = new Gson().fromJson(content, Reads.class);
+            } catch (Exception e) {
+                throw new AAIException("AAI_6111", "Input payload does not follow bulk/read interface");
+            }
+            validate(reads, headers);
+
+            List<BulkOperation> operations = generateReadOperations(reads.getUris(), info);
+            // the response is written after the resource method returned
+            HttpHeaders readHeaders = new BulkHttpHeaders(headers);
+            StreamingOutput output = out -> read(out, operations, version, sourceOfTruth, transId, readHeaders,
+                    deadline);
+            return Response.ok(output).type(MediaType.APPLICATION_JSON_TYPE).build();
+        } catch (AAIException e) {
+            return consumerExceptionResponseGenerator(headers, info, HttpMethod.POST, e);
+        }
+    }
+
+    private void validate(Reads reads, HttpHeaders headers) throws AAIException {
+        if (reads == null || reads.getUris() == null) {
+            throw new AAIException("AAI_6111", "input payload does not follow /bulk/read interface");
+        }
+        if (reads.getUris().isEmpty()) {
+            throw new AAIException("AAI_6118", " Payload has no uris to read");
+        }
+        ResourcesConfig config = ResourcesConfig.current();
+        String overrideLimit = headers.getRequestHeaders().getFirst("X-OverrideLimit");
+        if (!config.isBulkConsumerOverride(overrideLimit) && reads.getUris().size() > config.getBulkReadLimit()) {
+            throw new AAIException("AAI_6147", " Allowed limit = " + config.getBulkReadLimit());
+        }
+        for (int i = 0; i < reads.getUris().size(); i++) {
+            String uri = reads.getUris().get(i);
+            if (uri == null || uri.isEmpty()) {
+                throw new AAIException("AAI_6111", "input payload missing uri " + i);
+            }
+        }
+    }
+
+    /**
+     * Converts the uris into GET operations, the query params of a uri override those of the request.
+     */
+    private List<BulkOperation> generateReadOperations(List<String> uris, UriInfo info) {
+        List<BulkOperation> operations = new ArrayList<>(uris.size());
+        for (String uri : uris) {
+            if (uri.charAt(0) != '/') {
+                uri = '/' + uri;
+            }
+            UriComponents uriComponents =
+                    UriComponentsBuilder.fromUriString(uri.replaceAll("^" + uriPrefix + "/v\\d+", "")).build();
+            BulkUriInfo uriInfo = new BulkUriInfo();
+            for (Map.Entry<String, List<String>> param : info.getQueryParameters().entrySet()) {
+                uriInfo.addParams(param.getKey(), new ArrayList<>(param.getValue()));
+            }
+            for (Map.Entry<String, List<String>> param : uriComponents.getQueryParams().entrySet()) {
+                uriInfo.addParams(param.getKey(), new ArrayList<>(param.getValue()));
+            }
+            BulkOperation operation = new BulkOperation();
+            operation.setUri(UriBuilder.fromPath(uriComponents.getPath()).build());
+            operation.addUriInfo(uriInfo);
+            operation.setHttpMethod(HttpMethod.GET);
+            operations.add(operation);
+        }
+        return operations;
+    }
+
+    /**
+     * Reads the uris one after another in one read transaction, which is rolled back at the end.
+     * The deadline is checked before each uri, the container thread that writes is never interrupted.
+     */
+    private void read(OutputStream out, List<BulkOperation> operations, SchemaVersion version, String sourceOfTruth,
+            String transId, HttpHeaders headers, RequestDeadline deadline) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Gson gson = new Gson();
+        HttpEntry resourceHttpEntry = SpringContextAware.getBean("traversalUriHttpEntry", HttpEntry.class);
+        resourceHttpEntry.setHttpEntryProperties(version);
+        TransactionalGraphEngine dbEngine = resourceHttpEntry.getDbEngine();
+        Loader loader = resourceHttpEntry.getLoader();
+        try {
+            writer.write("{\"operation-responses\":[");
+            for (int i = 0; i < operations.size(); i++) {
+                BulkOperation operation = operations.get(i);
+                Response response;
+                try {
+                    deadline.check();
+                    QueryParser uriQuery = dbEngine.getQueryBuilder().createQueryFromURI(operation.getUri());
+                    String objType = uriQuery.getContainerType().isEmpty() ? uriQuery.getResultType()
+                            : uriQuery.getContainerType();
+                    Introspector obj = loader.introspectorFromName(objType);
+                    DBRequest request = new DBRequest.Builder(HttpMethod.GET, operation.getUri(), uriQuery, obj,
+                            headers, operation.getUriInfo(), transId).build();
+                    response = resourceHttpEntry.process(Collections.singletonList(request), sourceOfTruth)
+                            .getValue1().get(0).getValue1();
+                } catch (AAIException e) {
+                    response = consumerExceptionResponseGenerator(headers, operation.getUriInfo(), HttpMethod.GET, e);
+                } catch (Exception e) {
+                    AAIException ex = deadline.isExpired() ? deadline.timeout() : new AAIException("AAI_4000", e);
+                    response = consumerExceptionResponseGenerator(headers, operation.getUriInfo(), HttpMethod.GET,
+                            ex);
+                }
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write("{\"action\":\"" + READ_ACTION + "\",\"uri\":");
+                writer.write(gson.toJson(operation.getUri().toString()));
+                writer.write(",\"response-status-code\":" + response.getStatus() + ",\"response-body\":");
+                writeBody(writer, gson, response);
+                writer.write('}');
+                writer.flush();
+            }
+            writer.write("]}");
+            writer.flush();
+        } finally {
+            dbEngine.rollback();
+            LOGGER.debug("Read {} uris", operations.size());
+        }
+    }
+
+    /**
+     * Writes a response body as it is if it is json, the bodies of the GETs and of their errors are,
+     * and as a json string otherwise.
+     */
+    private static void writeBody(Writer writer, Gson gson, Response response) throws IOException {
+        Object entity = response.getEntity();
+        if (entity == null) {
+            writer.write("null");
+            return;
+        }
+        String body = entity.toString();
+        MediaType mediaType = response.getMediaType();
+        boolean json = mediaType != null ? MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType)
+                : body.startsWith("{") || body.startsWith("[");
+        writer.write(json && !body.isEmpty() ? body : gson.toJson(body));
+    }
+}
@@ -51,6 +51,7 @@ import jakarta.ws.rs.core.UriInfo;
 import org.javatuples.Pair;
 import org.onap.aai.config.SpringContextAware;
 import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.GraphAccess;
 import org.onap.aai.introspection.Introspector;
 import org.onap.aai.introspection.Loader;
 import org.onap.aai.logging.ErrorLogHelper;
@@ -60,18 +61,20 @@ import org.onap.aai.rest.bulk.pojos.Transaction;
 import org.onap.aai.rest.bulk.pojos.TransactionResponse;
 import org.onap.aai.rest.db.DBRequest;
 import org.onap.aai.rest.db.HttpEntry;
+import org.onap.aai.rest.util.RequestDeadline;
 import org.onap.aai.restcore.HttpMethod;
 import org.onap.aai.restcore.MediaType;
 import org.onap.aai.restcore.RESTAPI;
 import org.onap.aai.serialization.engines.TransactionalGraphEngine;
+import org.onap.aai.service.GetResponseCache;
 import org.onap.aai.setup.SchemaVersion;
-import org.onap.aai.util.AAIConfig;
-import org.onap.aai.util.AAIConstants;
+import org.onap.aai.util.ResourcesConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
+@GraphAccess
 @Path(value = "{version: v[1-9][0-9]*|latest}/bulk/single-transaction")
 @Timed
 public class BulkSingleTransactionConsumer extends RESTAPI {
@@ -97,6 +100,14 @@ public class BulkSingleTransactionConsumer extends RESTAPI {
     @Produces(value = jakarta.ws.rs.core.MediaType.APPLICATION_JSON)
     public Response process(String content, @PathParam(value = "version") String versionParam,
             @Context HttpHeaders headers, @Context UriInfo info, @Context HttpServletRequest req) {
+        return process(content, versionParam, headers, info, RequestDeadline.forRequest(headers));
+    }
+
+    /**
+     * Processes the transaction bound to a deadline, {@link RequestDeadline#NONE} for a job no client waits for.
+     */
+    public Response process(String content, String versionParam, HttpHeaders headers, UriInfo info,
+            RequestDeadline deadline) {
 
         String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
         String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
@@ -142,9 +153,12 @@ public class BulkSingleTransactionConsumer extends RESTAPI {
             // generate db process from bulk operation
             List<DBRequest> dbRequests = bulkOperationToDbRequests(headers, transId, bulkOperations);
 
-            // process db requests
+            // process db requests, the deadline is checked before and after, a transaction that ran past it
+            // is rolled back
+            deadline.check();
             Pair<Boolean, List<Pair<URI, Response>>> results =
                     resourceHttpEntry.process(dbRequests, sourceOfTruth, this.enableResourceVersion());
+            deadline.check();
 
             // commit/rollback based on results
             success = results.getValue0();
@@ -173,6 +187,11 @@ public class BulkSingleTransactionConsumer extends RESTAPI {
                 }
             }
         }
+        if (success && dbEngine != null) {
+            // the cached GET responses may be stale now, a context without the cache has nothing to drop
+            SpringContextAware.getApplicationContext().getBeanProvider(GetResponseCache.class)
+                    .ifAvailable(GetResponseCache::invalidateAll);
+        }
 
         return response;
     }
@@ -333,18 +352,12 @@ public class BulkSingleTransactionConsumer extends RESTAPI {
      * @param headers request header
      */
     private void setOperationCount(HttpHeaders headers) {
-        try {
-            String overrideLimit = headers.getRequestHeaders().getFirst("X-OverrideLimit");
-            boolean isOverride = overrideLimit != null
-                    && !AAIConfig.get(AAIConstants.AAI_BULKCONSUMER_OVERRIDE_LIMIT).equals("false")
-                    && overrideLimit.equals(AAIConfig.get(AAIConstants.AAI_BULKCONSUMER_OVERRIDE_LIMIT));
-            if (isOverride) {
-                allowedOperationCount = Integer.MAX_VALUE;
-            } else {
-                allowedOperationCount = AAIConfig.getInt(AAIConstants.AAI_BULKCONSUMER_LIMIT);
-            }
-        } catch (AAIException e) {
-            allowedOperationCount = 30;
+        ResourcesConfig config = ResourcesConfig.current();
+        String overrideLimit = headers.getRequestHeaders().getFirst("X-OverrideLimit");
+        if (config.isBulkConsumerOverride(overrideLimit)) {
+            allowedOperationCount = Integer.MAX_VALUE;
+        } else {
+            allowedOperationCount = config.getBulkConsumerLimit();
         }
     }
 
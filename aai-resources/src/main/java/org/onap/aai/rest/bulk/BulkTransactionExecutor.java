@@ -0,0 +1,171 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.onap.aai.util.AAIConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Bounded executor used to run independent bulk transactions concurrently.
+ *
+ * The pool is shared by all bulk requests, each request limits how many of its
+ * transactions may be in flight at once with its own semaphore.
+ * When the workers and the queue are all taken, submitting blocks until the queue has room,
+ * a transaction is never run on the request thread.
+ * The time a transaction spends waiting for a worker and the time it spends executing
+ * are recorded separately so that an undersized pool can be told apart from slow transactions.
+ */
+public class BulkTransactionExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkTransactionExecutor.class);
+
+    public static final String PARALLEL_THREADS = "aai.bulkconsumer.parallel.threads";
+    public static final String PARALLEL_QUEUE_SIZE = "aai.bulkconsumer.parallel.queuesize";
+
+    private static final String DEFAULT_THREADS = "10";
+    private static final String DEFAULT_QUEUE_SIZE = "100";
+
+    private final ThreadPoolExecutor executor;
+    private final Timer queueTimer;
+    private final Timer executionTimer;
+
+    BulkTransactionExecutor(int threads, int queueSize) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), new BulkThreadFactory(), new BlockingPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.queueTimer = Timer.builder("aai.bulk.transaction.queue")
+                .description("Time a bulk transaction waited for a worker thread").register(Metrics.globalRegistry);
+        this.executionTimer = Timer.builder("aai.bulk.transaction.execution")
+                .description("Time spent executing a bulk transaction").register(Metrics.globalRegistry);
+    }
+
+    /**
+     * The Class Helper.
+     */
+    private static class Helper {
+
+        /** The Constant INSTANCE. */
+        private static final BulkTransactionExecutor INSTANCE = new BulkTransactionExecutor(
+                Integer.parseInt(AAIConfig.get(PARALLEL_THREADS, DEFAULT_THREADS)),
+                Integer.parseInt(AAIConfig.get(PARALLEL_QUEUE_SIZE, DEFAULT_QUEUE_SIZE)));
+    }
+
+    /**
+     * Gets the single instance of BulkTransactionExecutor.
+     *
+     * @return single instance of BulkTransactionExecutor
+     */
+    public static BulkTransactionExecutor getInstance() {
+        return Helper.INSTANCE;
+    }
+
+    /**
+     * Submits a task once one of the caller's permits is free.
+     * Blocks the calling thread while all of its permits are in use or the queue is full.
+     *
+     * @param task the task to run
+     * @param permits per request semaphore bounding the number of tasks in flight
+     * @return the future of the task
+     * @throws InterruptedException if interrupted while waiting for a permit
+     */
+    public <T> Future<T> submit(Callable<T> task, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        final long submitted = System.nanoTime();
+        final Map<String, String> context = MDC.getCopyOfContextMap();
+        try {
+            return executor.submit(() -> {
+                long started = System.nanoTime();
+                queueTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    return task.call();
+                } finally {
+                    executionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void shutdown() {
+        LOGGER.info("Shutting down the bulk transaction executor");
+        executor.shutdown();
+    }
+
+    /**
+     * Waits for room in the queue instead of running the task on the submitting thread.
+     */
+    private static class BlockingPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor pool) {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("The bulk transaction executor is shut down");
+            }
+            try {
+                pool.getQueue().put(runnable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for a bulk worker", e);
+            }
+        }
+    }
+
+    private static class BulkThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "aai-bulk-tx-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
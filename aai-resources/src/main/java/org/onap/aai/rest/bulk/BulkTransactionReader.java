@@ -0,0 +1,114 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.onap.aai.exceptions.AAIException;
+
+/**
+ * Reads the transactions of a bulk payload one at a time from the request stream.
+ *
+ * Only the transaction currently being read is held as a json tree, so the memory needed
+ * for a bulk request depends on its largest transaction instead of on the whole payload.
+ */
+public class BulkTransactionReader implements Closeable {
+
+    private static final String TRANSACTIONS = "transactions";
+
+    private final JsonReader reader;
+    private final String module;
+    private boolean started = false;
+    private boolean finished = false;
+
+    public BulkTransactionReader(InputStream content, String module) {
+        this.reader = new JsonReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        this.module = module;
+    }
+
+    /**
+     * Moves to the start of the transactions array, so that a payload not following the bulk
+     * interface is reported before any transaction is read.
+     *
+     * @throws AAIException if the payload does not follow the bulk interface
+     * @throws IOException if the payload could not be read or is not valid json
+     */
+    public void open() throws AAIException, IOException {
+        if (!started) {
+            started = true;
+            moveToTransactions();
+        }
+    }
+
+    /**
+     * Returns the next transaction of the payload.
+     *
+     * @return the next transaction or null once the transactions array is exhausted
+     * @throws AAIException if the payload does not follow the bulk interface
+     * @throws IOException if the payload could not be read or is not valid json
+     */
+    public JsonElement next() throws AAIException, IOException {
+        open();
+        if (finished) {
+            return null;
+        }
+        if (!reader.hasNext()) {
+            reader.endArray();
+            finished = true;
+            return null;
+        }
+        return JsonParser.parseReader(reader);
+    }
+
+    private void moveToTransactions() throws AAIException, IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            throw new AAIException("AAI_6111", String.format("input payload does not follow %s interface", module));
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (TRANSACTIONS.equals(reader.nextName())) {
+                if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                    throw new AAIException("AAI_6111",
+                            String.format("input payload does not follow %s interface", module));
+                }
+                reader.beginArray();
+                return;
+            }
+            reader.skipValue();
+        }
+        throw new AAIException("AAI_6118",
+                String.format("input payload does not follow %s interface - missing \"transactions\"", module));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
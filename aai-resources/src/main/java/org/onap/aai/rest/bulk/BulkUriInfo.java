@@ -21,6 +21,7 @@
 package org.onap.aai.rest.bulk;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.ws.rs.core.*;
@@ -29,14 +30,32 @@ public class BulkUriInfo implements UriInfo {
 
     private MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
 
+    private String path = null;
+
+    public BulkUriInfo() {
+
+    }
+
+    /**
+     * Creates a detached copy of the path and query parameters of the given uri info.
+     *
+     * @param info the uri info of the request
+     */
+    public BulkUriInfo(UriInfo info) {
+        this.path = info.getPath();
+        if (info.getQueryParameters() != null) {
+            info.getQueryParameters().forEach((key, values) -> addParams(key, new ArrayList<>(values)));
+        }
+    }
+
     @Override
     public String getPath() {
-        return null;
+        return path;
     }
 
     @Override
     public String getPath(boolean decode) {
-        return null;
+        return path;
     }
 
     @Override
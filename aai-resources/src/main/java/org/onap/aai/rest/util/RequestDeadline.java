@@ -0,0 +1,90 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.util;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.util.ResourcesConfig;
+
+/**
+ * The point in time after which the client of a request has given up, following aai.crud.timeoutenabled,
+ * aai.crud.timeoutlimit and aai.crud.timeout.appspecific.
+ *
+ * The deadline is checked with {@link #check()} between the steps of a request, e.g. before and after
+ * a graph traversal or per object of a streamed collection. A running traversal is never interrupted,
+ * as an interrupt during storage backend I/O can break the transaction or the backend itself.
+ * When the deadline has passed, the caller rolls back and answers with the AAI_7406 timeout of {@link #timeout()}.
+ */
+public final class RequestDeadline {
+
+    public static final RequestDeadline NONE = new RequestDeadline(-1, 0);
+
+    private final long timeoutMs;
+    private final long deadline;
+
+    private RequestDeadline(long timeoutMs, long deadline) {
+        this.timeoutMs = timeoutMs;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Gets the deadline of a request that starts now.
+     *
+     * @param headers the headers with the X-FromAppId of the client
+     */
+    public static RequestDeadline forRequest(HttpHeaders headers) {
+        String appId = headers == null ? null : headers.getRequestHeaders().getFirst("X-FromAppId");
+        return of(ResourcesConfig.current().getCrudTimeout(appId));
+    }
+
+    /**
+     * @param timeoutMs the timeout in ms from now, a negative value for no deadline
+     */
+    public static RequestDeadline of(long timeoutMs) {
+        if (timeoutMs < 0) {
+            return NONE;
+        }
+        return new RequestDeadline(timeoutMs, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    public boolean isExpired() {
+        return timeoutMs >= 0 && System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * @throws AAIException AAI_7406 if the deadline has passed
+     */
+    public void check() throws AAIException {
+        if (isExpired()) {
+            throw timeout();
+        }
+    }
+
+    /**
+     * @return the AAI_7406 error of a request that ran past the deadline
+     */
+    public AAIException timeout() {
+        return new AAIException("AAI_7406", String.format("Timeout limit of %s ms reached.", timeoutMs));
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit of one client that adapts to the observed latency, additive increase and
+ * multiplicative decrease.
+ *
+ * The limit grows by one when a request completes within the latency target while the client used at
+ * least half of its limit, and it is multiplied with the backoff when a request was slower than the
+ * target or the service reported an overload. It stays between the configured minimum and maximum.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    AdaptiveConcurrencyLimit(int initialLimit) {
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @param maxLimit the configured limit, which caps the adapted one
+     * @return true if the request may run, it must then be completed with {@link #complete}
+     */
+    boolean tryAcquire(int maxLimit) {
+        int current = getLimit(maxLimit);
+        while (true) {
+            int running = inFlight.get();
+            if (running >= current) {
+                return false;
+            }
+            if (inFlight.compareAndSet(running, running + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the request and adapts the limit.
+     *
+     * @param latencyMs how long the request ran
+     * @param overloaded whether the service answered that it is overloaded
+     */
+    void complete(long latencyMs, boolean overloaded, int minLimit, int maxLimit, long latencyTargetMs,
+            double backoff) {
+        int running = inFlight.getAndDecrement();
+        synchronized (this) {
+            double next = limit;
+            if (overloaded || latencyMs > latencyTargetMs) {
+                next = next * backoff;
+            } else if (running * 2 >= next) {
+                next = next + 1;
+            }
+            limit = Math.max(minLimit, Math.min(maxLimit, next));
+        }
+    }
+
+    /**
+     * Releases a request that did not run, the limit is not adapted.
+     */
+    void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    int getLimit(int maxLimit) {
+        return (int) Math.min(limit, maxLimit);
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.ws.rs.core.Response;
+
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.rest.bulk.BulkJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs bulk requests in the background on a pool of its own, so that large loads
+ * do not hold the request threads of the server for their whole run.
+ * The payload of a job is spooled to a file until the job runs, so queued jobs do not hold it in memory.
+ * Jobs are kept in an in memory store bounded by the size of their results
+ * and evicted a while after they were last updated.
+ */
+@Service
+public class BulkJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkJobService.class);
+
+    // weight of the state of a job besides its result
+    private static final int JOB_WEIGHT = 1024;
+
+    private final Cache<String, BulkJob> jobs;
+    private final ThreadPoolExecutor executor;
+    private final Path spoolDir;
+
+    /**
+     * The work of a job, it gets the spooled payload of the job.
+     */
+    @FunctionalInterface
+    public interface Work {
+        Response run(InputStream payload) throws Exception;
+    }
+
+    public BulkJobService(@Value("${aai.bulk.jobs.threads:4}") int threads,
+            @Value("${aai.bulk.jobs.queue-size:50}") int queueSize,
+            @Value("${aai.bulk.jobs.max-result-bytes:268435456}") long maxResultBytes,
+            @Value("${aai.bulk.jobs.ttl-minutes:60}") long ttlMinutes,
+            @Value("${aai.bulk.jobs.spool-dir:}") String spoolDir) {
+        this.spoolDir = Paths.get(spoolDir.isEmpty() ? System.getProperty("java.io.tmpdir") : spoolDir);
+        // a single segment, so the whole weight is available to every job instead of a share of it
+        this.jobs = CacheBuilder.newBuilder().concurrencyLevel(1).maximumWeight(maxResultBytes)
+                .weigher(BulkJobService::weigh).expireAfterWrite(ttlMinutes, TimeUnit.MINUTES).build();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "aai-bulk-job-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Spools the payload of a bulk request to a file and queues the request.
+     *
+     * @param type the kind of bulk request
+     * @param payload the payload of the request
+     * @param work produces the response the synchronous endpoint would have returned
+     * @return the queued job
+     * @throws AAIException if the payload cannot be spooled or the queue of jobs is full
+     */
+    public BulkJob submit(String type, InputStream payload, Work work) throws AAIException {
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), type);
+        Path file = spool(job, payload);
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, file, work, context));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            delete(file);
+            throw new AAIException("AAI_7408", "bulk job queue is full");
+        }
+        return job;
+    }
+
+    public Optional<BulkJob> getJob(String id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    private static int weigh(String id, BulkJob job) {
+        String result = job.getResult();
+        return JOB_WEIGHT + (result == null ? 0 : result.length());
+    }
+
+    private Path spool(BulkJob job, InputStream payload) throws AAIException {
+        Path file = null;
+        try {
+            file = Files.createTempFile(spoolDir, "aai-bulk-job-" + job.getId(), ".json");
+            Files.copy(payload, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            delete(file);
+            throw new AAIException("AAI_4000", e);
+        }
+    }
+
+    private void run(BulkJob job, Path file, Work work, Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        }
+        try (InputStream payload = Files.newInputStream(file)) {
+            job.start();
+            jobs.put(job.getId(), job);
+            job.complete(work.run(payload));
+        } catch (Exception e) {
+            LOGGER.error("Bulk job {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            delete(file);
+            // refresh the expiry so the result stays available for the whole ttl, this also weighs the result
+            jobs.put(job.getId(), job);
+            MDC.clear();
+        }
+    }
+
+    private void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the spooled bulk job payload {}: {}", file, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
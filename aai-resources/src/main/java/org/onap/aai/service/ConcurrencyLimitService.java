@@ -0,0 +1,158 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.util.ResourcesConfig;
+import org.springframework.stereotype.Service;
+
+/**
+ * Limits the requests in flight per client (X-FromAppId) and over all clients, so that one client
+ * can not take all request threads.
+ *
+ * Each client with a limit in aai.concurrency.limit.appspecific gets an {@link AdaptiveConcurrencyLimit}
+ * that starts at that limit and shrinks while its requests are slower than aai.concurrency.limit.latency.target.ms.
+ * All other clients share the default one, which starts at aai.concurrency.limit.default, so the state and
+ * the metric tags are bounded by the configuration and not by the app ids clients send.
+ * A client with the limit -1 is not limited.
+ */
+@Service
+public class ConcurrencyLimitService {
+
+    static final String DEFAULT_CLIENT = "default";
+
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ConcurrencyLimitService() {
+        Gauge.builder("aai.concurrency.inflight", inFlight, AtomicInteger::get)
+                .description("Requests in flight that count towards the global concurrency limit")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Acquires a permit for a request of the client with the current configuration.
+     *
+     * @param appId the source of truth of the request
+     * @return the permit, which must be released when the request has finished, or null if it is not limited
+     * @throws AAIException AAI_7407 if the client is over its limit, AAI_7409 if the service is
+     *         at its global limit
+     */
+    public Permit acquire(String appId) throws AAIException {
+        return acquire(appId, ResourcesConfig.current());
+    }
+
+    Permit acquire(String appId, ResourcesConfig config) throws AAIException {
+        if (!config.isConcurrencyLimitEnabled()) {
+            return null;
+        }
+        int maxLimit = config.getConcurrencyLimit(appId);
+        if (maxLimit < 0) {
+            return null;
+        }
+        String client = config.hasConcurrencyLimit(appId) ? appId : DEFAULT_CLIENT;
+        AdaptiveConcurrencyLimit limit = limits.computeIfAbsent(client, key -> new AdaptiveConcurrencyLimit(maxLimit));
+        if (!limit.tryAcquire(maxLimit)) {
+            reject(client, "client");
+            String clients =
+                    client.equals(DEFAULT_CLIENT) ? "clients without a limit of their own have" : client + " has";
+            throw new AAIException("AAI_7407", String.format("%s %d requests in flight, the limit is %d", clients,
+                    limit.getInFlight(), limit.getLimit(maxLimit)));
+        }
+        if (!tryAcquireGlobal(config.getConcurrencyLimitGlobal())) {
+            limit.cancel();
+            reject(client, "global");
+            throw new AAIException("AAI_7409", "the global concurrency limit is reached");
+        }
+        return new Permit(limit, config, maxLimit);
+    }
+
+    private boolean tryAcquireGlobal(int globalLimit) {
+        while (true) {
+            int running = inFlight.get();
+            if (globalLimit >= 0 && running >= globalLimit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(running, running + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void reject(String client, String reason) {
+        Counter.builder("aai.concurrency.rejected").description("Requests rejected by the concurrency limits")
+                .tag("client", client).tag("reason", reason).register(Metrics.globalRegistry).increment();
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * A request in flight, releasing it adapts the limit of its client to the request's latency.
+     * A request that ended without a response, e.g. by an exception no mapper handled, counts as 500.
+     */
+    public final class Permit {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final ResourcesConfig config;
+        private final int maxLimit;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile int status = 500;
+
+        private Permit(AdaptiveConcurrencyLimit limit, ResourcesConfig config, int maxLimit) {
+            this.limit = limit;
+            this.config = config;
+            this.maxLimit = maxLimit;
+        }
+
+        /**
+         * Records the http status of the response, 503 and 504 count as overload.
+         */
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        /**
+         * Releases the permit with the recorded status, only the first call has an effect.
+         */
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            limit.complete(latencyMs, status == 503 || status == 504, config.getConcurrencyLimitMin(), maxLimit,
+                    config.getConcurrencyLimitLatencyTargetMs(), config.getConcurrencyLimitBackoff());
+        }
+    }
+}
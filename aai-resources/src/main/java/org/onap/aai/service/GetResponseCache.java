@@ -0,0 +1,208 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cache of the responses to GETs of single objects by uri.
+ *
+ * An entry is only used while the resource-version of its object is unchanged, so a hit costs one
+ * index lookup of the aai-uri and one property read instead of a traversal and the marshalling.
+ * Changes that do not update the resource-version of the object, like those of its children or its
+ * relationships, are covered by invalidating the entries on the writes of this instance and by the
+ * short aai.get.cache.ttl.ms for the writes of other instances.
+ * A write invalidates in constant time by counting up the generation of the top level object it is under,
+ * the entries of that object and its descendants that were read in an older generation are then not used.
+ * The generations are kept in a fixed number of stripes, objects sharing a stripe invalidate each other.
+ * The entries are bounded by aai.get.cache.maxbytes and evicted least recently used first.
+ */
+@Service
+public class GetResponseCache {
+
+    static final GetResponseCache DISABLED = new GetResponseCache(false, 0, 0);
+
+    private static final Set<String> KEY_PARAMS = Set.of("depth", "nodes-only", "format", "cleanup");
+
+    private static final int GENERATION_STRIPES = 4096;
+
+    // namespace, plural, singular and key of the top level object
+    private static final int ROOT_SEGMENTS = 4;
+
+    private final Cache<String, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hits;
+    private final Counter misses;
+
+    public GetResponseCache(@Value("${aai.get.cache.enabled:false}") boolean enabled,
+            @Value("${aai.get.cache.maxbytes:67108864}") long maxBytes,
+            @Value("${aai.get.cache.ttl.ms:5000}") long ttlMs) {
+        if (!enabled) {
+            this.cache = null;
+            this.hits = null;
+            this.misses = null;
+            return;
+        }
+        this.cache = CacheBuilder.newBuilder().maximumWeight(maxBytes).weigher(GetResponseCache::weigh)
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS).build();
+        this.hits = Counter.builder("aai.get.cache.requests").tag("result", "hit")
+                .description("GETs answered from the response cache").register(Metrics.globalRegistry);
+        this.misses = Counter.builder("aai.get.cache.requests").tag("result", "miss")
+                .description("Cacheable GETs that were not in the response cache").register(Metrics.globalRegistry);
+        Gauge.builder("aai.get.cache.size", cache, Cache::size).description("Responses in the response cache")
+                .register(Metrics.globalRegistry);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Gets the key of a GET, or null if its query parameters are not cacheable.
+     *
+     * @param aaiUri the uri of the object, e.g. /cloud-infrastructure/complexes/complex/c1
+     * @param depth the depth param
+     * @param params the query parameters, only depth, nodes-only, format and cleanup are cacheable
+     * @param mediaType the media type of the response
+     */
+    public static String key(String aaiUri, String depth, MultivaluedMap<String, String> params, String mediaType) {
+        if (!KEY_PARAMS.containsAll(params.keySet())) {
+            return null;
+        }
+        return aaiUri + "|depth=" + depth + "|nodes-only=" + params.containsKey("nodes-only") + "|format="
+                + first(params.get("format")) + "|" + mediaType;
+    }
+
+    /**
+     * Gets the current generation of the object with the given uri, read before the traversal whose
+     * response is put into the cache.
+     */
+    public long generation(String aaiUri) {
+        return generations.get(stripe(aaiUri));
+    }
+
+    /**
+     * Gets the entry of the key if it was cached for the given resource-version in the current generation.
+     */
+    public Entry get(String key, String resourceVersion) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.resourceVersion.equals(resourceVersion)
+                && entry.generation == generation(entry.aaiUri)) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches a response.
+     *
+     * @param generation the generation of the object read before the response was, a response of an older
+     *        generation is never used
+     */
+    public void put(String key, String aaiUri, long generation, String resourceVersion, String entity,
+            String mediaType) {
+        cache.put(key, new Entry(aaiUri, generation, resourceVersion, entity, mediaType));
+    }
+
+    /**
+     * Invalidates the entries of the object with the given uri, of its ancestors and of its descendants.
+     */
+    public void invalidate(String aaiUri) {
+        if (cache != null) {
+            generations.incrementAndGet(stripe(aaiUri));
+        }
+    }
+
+    /**
+     * Removes all entries, for the bulk writes that do not collect the objects they touch.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private static String first(List<String> values) {
+        return values == null || values.isEmpty() ? "" : values.get(0);
+    }
+
+    private static int stripe(String aaiUri) {
+        int end = 0;
+        for (int i = 0; i < ROOT_SEGMENTS && end >= 0; i++) {
+            end = aaiUri.indexOf('/', end + 1);
+        }
+        if (end < 0) {
+            end = aaiUri.length();
+        }
+        return Math.floorMod(aaiUri.substring(0, end).hashCode(), GENERATION_STRIPES);
+    }
+
+    private static int weigh(String key, Entry entry) {
+        long bytes = 2L * (key.length() + entry.aaiUri.length() + entry.resourceVersion.length()
+                + entry.entity.length() + entry.mediaType.length()) + 64;
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * A cached response.
+     */
+    public static final class Entry {
+
+        private final String aaiUri;
+        private final long generation;
+        private final String resourceVersion;
+        private final String entity;
+        private final String mediaType;
+
+        private Entry(String aaiUri, long generation, String resourceVersion, String entity, String mediaType) {
+            this.aaiUri = aaiUri;
+            this.generation = generation;
+            this.resourceVersion = resourceVersion;
+            this.entity = entity;
+            this.mediaType = mediaType;
+        }
+
+        public String getEntity() {
+            return entity;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Limits the requests that access the graph at once, independent of the size of the request thread pool.
+ * Requests over the limit wait up to aai.graph.access.timeout.ms for a permit.
+ * The limit only applies when aai.graph.access.enabled is set.
+ */
+@Service
+public class GraphAccessLimiter {
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final long timeoutMs;
+
+    public GraphAccessLimiter(@Value("${aai.graph.access.enabled:false}") boolean enabled,
+            @Value("${aai.graph.access.permits:200}") int permits,
+            @Value("${aai.graph.access.timeout.ms:30000}") long timeoutMs) {
+        this.enabled = enabled;
+        this.permits = new Semaphore(permits, true);
+        this.timeoutMs = timeoutMs;
+        Gauge.builder("aai.graph.access.available", this.permits, Semaphore::availablePermits)
+                .description("Permits to access the graph that are not in use").register(Metrics.globalRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Waits for a permit.
+     *
+     * @return the permit, or null if none became available within aai.graph.access.timeout.ms
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Permit acquire() throws InterruptedException {
+        return permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS) ? new Permit() : null;
+    }
+
+    /**
+     * An acquired permit, only the first release has an effect.
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.onap.aai.exceptions.AAIException;
+
+/**
+ * Tokens of cursor paginated collection GETs.
+ *
+ * The objects of a cursor paginated GET are sorted by aai-uri and a token carries the aai-uri of the last
+ * object of its page. The next page is read in a new traversal that only passes the objects sorted after it,
+ * so no transaction or traversal is kept between the pages, a page never serializes the objects of the
+ * previous pages, and a token can be continued on any instance.
+ * A token is bound to the query it was returned for.
+ */
+public final class PaginationCursors {
+
+    private PaginationCursors() {}
+
+    /**
+     * Encodes the token of the page after the object with the given aai-uri.
+     */
+    public static String encode(String queryKey, String lastAaiUri) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((hash(queryKey) + ":" + lastAaiUri).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token.
+     *
+     * @return the aai-uri of the last object of the previous page, or null for an empty token that requests
+     *         the first page
+     * @throws AAIException AAI_3000 if the token is not valid or was returned for another query
+     */
+    public static String decode(String token, String queryKey) throws AAIException {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 2);
+        } catch (IllegalArgumentException e) {
+            throw new AAIException("AAI_3000", "Invalid cursor " + token);
+        }
+        if (parts.length != 2 || !parts[0].equals(hash(queryKey)) || parts[1].isEmpty()) {
+            throw new AAIException("AAI_3000", "Invalid cursor " + token);
+        }
+        return parts[1];
+    }
+
+    private static String hash(String queryKey) {
+        return Integer.toHexString(queryKey.hashCode());
+    }
+}
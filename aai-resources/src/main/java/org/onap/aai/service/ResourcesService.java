@@ -24,12 +24,15 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedHashMap;
@@ -38,12 +41,23 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.javatuples.Pair;
 import org.onap.aai.config.SpringContextAware;
 import org.onap.aai.db.props.AAIProperties;
+import org.onap.aai.edges.enums.AAIDirection;
+import org.onap.aai.edges.enums.EdgeProperty;
 import org.onap.aai.exceptions.AAIException;
 import org.onap.aai.introspection.Introspector;
 import org.onap.aai.introspection.Loader;
+import org.onap.aai.introspection.MarshallerProperties;
+import org.onap.aai.introspection.ModelType;
 import org.onap.aai.introspection.tools.CreateUUID;
 import org.onap.aai.introspection.tools.DefaultFields;
 import org.onap.aai.introspection.tools.InjectKeysFromURI;
@@ -53,20 +67,40 @@ import org.onap.aai.introspection.tools.RemoveNonVisibleProperty;
 import org.onap.aai.logging.ErrorLogHelper;
 import org.onap.aai.parsers.query.QueryParser;
 import org.onap.aai.query.builder.Pageable;
+import org.onap.aai.query.builder.QueryBuilder;
 import org.onap.aai.query.builder.QueryOptions;
 import org.onap.aai.rest.RestTokens;
 import org.onap.aai.rest.db.DBRequest;
 import org.onap.aai.rest.db.HttpEntry;
 import org.onap.aai.rest.exceptions.AAIInvalidXMLNamespace;
+import org.onap.aai.rest.util.RequestDeadline;
 import org.onap.aai.rest.util.ValidateEncoding;
 import org.onap.aai.restcore.HttpMethod;
+import org.onap.aai.schema.enums.PropertyMetadata;
+import org.onap.aai.serialization.db.DBSerializer;
 import org.onap.aai.serialization.engines.TransactionalGraphEngine;
 import org.onap.aai.setup.SchemaVersion;
+import org.onap.aai.setup.SchemaVersions;
+import org.onap.aai.util.ResourcesConfig;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ResourcesService {
 
+  public static final String NEXT_CURSOR = "next-cursor";
+
+  private final GetResponseCache getResponseCache;
+
+  public ResourcesService() {
+    this(GetResponseCache.DISABLED);
+  }
+
+  @Autowired
+  public ResourcesService(GetResponseCache getResponseCache) {
+    this.getResponseCache = getResponseCache;
+  }
+
   /**
    * This method exists as a workaround for filtering out undesired query params
    * while routing between REST consumers
@@ -77,9 +111,12 @@ public class ResourcesService {
     Set<String> roles = Collections.emptySet();
     String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
     String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
+    RequestDeadline deadline = RequestDeadline.forRequest(headers);
     Response response;
     TransactionalGraphEngine dbEngine = null;
     Loader loader;
+    // a streamed entity rolls its transaction back once written, or once the request has finished
+    boolean streaming = false;
 
     try {
       validateUriEncoding(info);
@@ -96,6 +133,35 @@ public class ResourcesService {
 
       uri = uri.split("\\?")[0];
 
+      String aaiUri = toAaiUri(uri);
+      String resourceVersion = null;
+      EntityTag entityTag = null;
+      boolean cacheable = !"true".equals(cleanUp) && !hasValidPaginationParams(pageable);
+      boolean tagged = cacheable && hasEntityTag(depthParam, info);
+      // one index lookup of the aai-uri, the vertex is then cached in the transaction for the traversal
+      if (tagged || (cacheable && getResponseCache.isEnabled())) {
+        resourceVersion = getResourceVersion(dbEngine, aaiUri);
+      }
+      if (tagged && resourceVersion != null) {
+        entityTag = getEntityTag(resourceVersion, "object", depthParam, headers, info);
+        if (isNotModified(headers, entityTag)) {
+          return Response.notModified(entityTag).build();
+        }
+      }
+      String cacheKey = null;
+      long cacheGeneration = 0;
+      if (resourceVersion != null && getResponseCache.isEnabled()) {
+        cacheKey = GetResponseCache.key(aaiUri, depthParam, info.getQueryParameters(),
+            getMediaType(headers.getAcceptableMediaTypes()));
+        cacheGeneration = getResponseCache.generation(aaiUri);
+      }
+      if (cacheKey != null) {
+        GetResponseCache.Entry cached = getResponseCache.get(cacheKey, resourceVersion);
+        if (cached != null) {
+          return Response.ok(cached.getEntity()).type(cached.getMediaType()).tag(entityTag).build();
+        }
+      }
+
       URI uriObject = UriBuilder.fromPath(uri).build();
 
       QueryParser uriQuery = dbEngine.getQueryBuilder().createQueryFromURI(uriObject, params);
@@ -107,29 +173,92 @@ public class ResourcesService {
         objType = uriQuery.getResultType();
       }
       Introspector obj = loader.introspectorFromName(objType);
+      Set<String> fields = SparseFields.parse(info.getQueryParameters().getFirst(SparseFields.FIELDS), loader,
+          uriQuery.getResultType());
+      boolean streamable = !uriQuery.getContainerType().equals("")
+          && isStreamable(version, cleanUp, headers, info, pageable, fields != null);
+      if (fields != null && (info.getQueryParameters().containsKey("depth")
+          || info.getQueryParameters().containsKey("nodes-only"))) {
+        throw new AAIException("AAI_3000", "fields cannot be combined with depth or nodes-only");
+      }
+      if (fields != null && !uriQuery.getContainerType().equals("") && !streamable) {
+        throw new AAIException("AAI_3000", "fields are supported for json collection GETs without resultIndex,"
+            + " cleanup, format or skip-related-to");
+      }
+      boolean cursorPaged = info.getQueryParameters().containsKey("cursor");
+      if (cursorPaged && (!streamable || pageable.getPageSize() <= 0)) {
+        throw new AAIException("AAI_3000", "A cursor is supported for json collection GETs with resultSize, at depth 0"
+            + " or with fields, and without resultIndex, cleanup, format or skip-related-to");
+      }
+      if (fields != null && uriQuery.getContainerType().equals("")) {
+        Vertex vertex = dbEngine.asAdmin().getTraversalSource().V().has(AAIProperties.AAI_URI, aaiUri).tryNext()
+            .orElse(null);
+        if (vertex != null) {
+          SparseFields.read(new DBSerializer(version, dbEngine, ModelType.MOXY, sourceOfTruth), vertex, obj, fields,
+              cleanUp);
+          String outputMediaType = getMediaType(headers.getAcceptableMediaTypes());
+          return Response.ok(obj.marshal(new MarshallerProperties.Builder(
+              org.onap.aai.restcore.MediaType.getEnum(outputMediaType)).build()))
+              .type(outputMediaType).tag(entityTag).build();
+        }
+      }
+      if (streamable) {
+        String listName = obj.getProperties().stream().filter(obj::isListType).findFirst().orElse(null);
+        boolean nodesOnly = info.getQueryParameters().containsKey("nodes-only");
+        if (listName != null && cursorPaged) {
+          String queryKey = uri + "|" + new TreeMap<>(params) + "|" + nodesOnly;
+          String after = PaginationCursors.decode(info.getQueryParameters().getFirst("cursor"), queryKey);
+          StreamingCollectionOutput.Page page = new StreamingCollectionOutput.Page(loader, listName,
+              uriQuery.getResultType(), nodesOnly, cleanUp, fields, deadline);
+          streaming = true;
+          return getCursorPage(version, sourceOfTruth, dbEngine, uriQuery.getQueryBuilder(), after, queryKey,
+              pageable.getPageSize(), page);
+        }
+        QueryBuilder<Vertex> query = uriQuery.getQueryBuilder();
+        if (listName != null && (fields != null || ResourcesConfig.current().isGetStreaming()) && query.hasNext()) {
+          DBSerializer serializer = new DBSerializer(version, dbEngine, ModelType.MOXY, sourceOfTruth);
+          streaming = true;
+          return Response.ok(new StreamingCollectionOutput(serializer, loader, query, listName,
+              uriQuery.getResultType(), nodesOnly, cleanUp, fields, deadline, dbEngine::rollback))
+              .type(MediaType.APPLICATION_JSON_TYPE).build();
+        }
+      }
       DBRequest request = new DBRequest.Builder(HttpMethod.GET, uriObject, uriQuery, obj, headers, info, transId)
           .build();
       List<DBRequest> requests = Collections.singletonList(request);
 
+      // the traversal is never interrupted, the deadline is checked before and after it
       Pair<Boolean, List<Pair<URI, Response>>> responsesTuple = null;
+      deadline.check();
       if (hasValidPaginationParams(pageable)) {
         responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth, roles, true,
             new QueryOptions(pageable));
       } else {
         responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth, roles);
       }
+      deadline.check();
 
       response = responsesTuple.getValue1().get(0).getValue1();
+      if (cacheKey != null && response.getStatus() == Response.Status.OK.getStatusCode()
+          && response.getEntity() instanceof String) {
+        String mediaType = response.getMediaType() != null ? response.getMediaType().toString()
+            : getMediaType(headers.getAcceptableMediaTypes());
+        getResponseCache.put(cacheKey, aaiUri, cacheGeneration, resourceVersion, (String) response.getEntity(),
+            mediaType);
+      }
+      if (entityTag != null && response.getStatus() == Response.Status.OK.getStatusCode()) {
+        response = Response.fromResponse(response).tag(entityTag).build();
+      }
 
     } catch (AAIException e) {
       response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, e);
     } catch (Exception e) {
-      AAIException ex = new AAIException("AAI_4000", e);
+      AAIException ex = deadline.isExpired() ? deadline.timeout() : new AAIException("AAI_4000", e);
 
       response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET, ex);
     } finally {
-      if (dbEngine != null) {
-        if (cleanUp.equals("true")) {
+      if (dbEngine != null && !streaming) {
+        if (cleanUp.equals("true") && !deadline.isExpired()) {
           dbEngine.commit();
         } else {
           dbEngine.rollback();
@@ -149,6 +278,7 @@ public class ResourcesService {
     Loader loader;
     TransactionalGraphEngine dbEngine = null;
     boolean success = true;
+    Set<String> touchedUris = new HashSet<>();
 
     try {
       validateUriEncoding(info);
@@ -171,10 +301,14 @@ public class ResourcesService {
           info, transId).build();
       List<DBRequest> requests = new ArrayList<>();
       requests.add(request);
+      addTouchedUris(dbEngine, toAaiUri(uri), touchedUris);
       Pair<Boolean, List<Pair<URI, Response>>> responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth);
 
       response = responsesTuple.getValue1().get(0).getValue1();
       success = responsesTuple.getValue0();
+      if (success) {
+        addTouchedUris(dbEngine, toAaiUri(uri), touchedUris);
+      }
 
     } catch (AAIException e) {
       response = consumerExceptionResponseGenerator(headers, info, HttpMethod.PUT, e);
@@ -187,6 +321,7 @@ public class ResourcesService {
       if (dbEngine != null) {
         if (success) {
           dbEngine.commit();
+          touchedUris.forEach(getResponseCache::invalidate);
         } else {
           dbEngine.rollback();
         }
@@ -207,6 +342,8 @@ public class ResourcesService {
     String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
     String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
     boolean success = true;
+    boolean unchanged = false;
+    Set<String> touchedUris = new HashSet<>();
 
     try {
       validateUriEncoding(info);
@@ -219,6 +356,15 @@ public class ResourcesService {
       dbEngine = traversalUriHttpEntry.getDbEngine();
       URI uriObject = UriBuilder.fromPath(uri).build();
       this.validateURI(uriObject);
+      String ifMatch = headers.getHeaderString(HttpHeaders.IF_MATCH);
+      boolean detectNoop = method == HttpMethod.PUT && ResourcesConfig.current().isWriteNoopDetection();
+      Vertex stored = null;
+      if (ifMatch != null || detectNoop) {
+        stored = dbEngine.asAdmin().getTraversalSource().V().has(AAIProperties.AAI_URI, toAaiUri(uri)).tryNext()
+            .orElse(null);
+        checkIfMatch(ifMatch, stored == null ? null : stored.<String>property(AAIProperties.RESOURCE_VERSION)
+            .orElse(null));
+      }
       QueryParser uriQuery = dbEngine.getQueryBuilder().createQueryFromURI(uriObject);
       String objName = uriQuery.getResultType();
       if (content.length() == 0) {
@@ -241,15 +387,24 @@ public class ResourcesService {
 
       validateIntrospector(obj, loader, uriObject, method);
 
+      if (detectNoop && stored != null && isUnchanged(obj, stored)) {
+        unchanged = true;
+        return Response.ok().build();
+      }
+
       DBRequest request = new DBRequest.Builder(method, uriObject, uriQuery, obj, headers, info, transId)
           .rawRequestContent(content).build();
       List<DBRequest> requests = new ArrayList<>();
       requests.add(request);
+      addTouchedUris(dbEngine, toAaiUri(uri), touchedUris);
       Pair<Boolean, List<Pair<URI, Response>>> responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth,
           roles);
 
       response = responsesTuple.getValue1().get(0).getValue1();
       success = responsesTuple.getValue0();
+      if (success) {
+        addTouchedUris(dbEngine, toAaiUri(uri), touchedUris);
+      }
     } catch (AAIException e) {
       response = consumerExceptionResponseGenerator(headers, info, method, e);
       success = false;
@@ -259,8 +414,9 @@ public class ResourcesService {
       success = false;
     } finally {
       if (dbEngine != null) {
-        if (success) {
+        if (success && !unchanged) {
           dbEngine.commit();
+          touchedUris.forEach(getResponseCache::invalidate);
         } else {
           dbEngine.rollback();
         }
@@ -280,6 +436,7 @@ public class ResourcesService {
     Response response;
 
     boolean success = true;
+    Set<String> touchedUris = new HashSet<>();
 
     try {
       this.validateUriEncoding(info);
@@ -305,6 +462,7 @@ public class ResourcesService {
           headers, info, transId).build();
       List<DBRequest> requests = new ArrayList<>();
       requests.add(request);
+      addTouchedUris(dbEngine, toAaiUri(uri), touchedUris);
       Pair<Boolean, List<Pair<URI, Response>>> responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth);
 
       response = responsesTuple.getValue1().get(0).getValue1();
@@ -320,6 +478,7 @@ public class ResourcesService {
       if (dbEngine != null) {
         if (success) {
           dbEngine.commit();
+          touchedUris.forEach(getResponseCache::invalidate);
         } else {
           dbEngine.rollback();
         }
@@ -333,6 +492,7 @@ public class ResourcesService {
       HttpHeaders headers, UriInfo info, Pageable pageable) {
     String sourceOfTruth = headers.getRequestHeaders().getFirst("X-FromAppId");
     String transId = headers.getRequestHeaders().getFirst("X-TransactionId");
+    RequestDeadline deadline = RequestDeadline.forRequest(headers);
     Response response = null;
     TransactionalGraphEngine dbEngine = null;
     Loader loader = null;
@@ -363,6 +523,16 @@ public class ResourcesService {
         objType = uriQuery.getResultType();
       }
       Introspector obj = loader.introspectorFromName(objType);
+      EntityTag entityTag = null;
+      if (!"true".equals(cleanUp) && !hasValidPaginationParams(pageable)) {
+        String relationshipsVersion = getRelationshipsVersion(dbEngine, toAaiUri(uri));
+        if (relationshipsVersion != null) {
+          entityTag = getEntityTag(relationshipsVersion, "relationship-list", "0", headers, info);
+          if (isNotModified(headers, entityTag)) {
+            return Response.notModified(entityTag).build();
+          }
+        }
+      }
       DBRequest request = new DBRequest.Builder(HttpMethod.GET_RELATIONSHIP, uriObject, uriQuery, obj, headers, info,
           transId)
           .build();
@@ -370,22 +540,27 @@ public class ResourcesService {
       requests.add(request);
 
       Pair<Boolean, List<Pair<URI, Response>>> responsesTuple = null;
+      deadline.check();
       if (hasValidPaginationParams(pageable)) {
         responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth, Collections.emptySet(), true,
             new QueryOptions(pageable));
       } else {
         responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth);
       }
+      deadline.check();
       response = responsesTuple.getValue1().get(0).getValue1();
+      if (entityTag != null && response.getStatus() == Response.Status.OK.getStatusCode()) {
+        response = Response.fromResponse(response).tag(entityTag).build();
+      }
     } catch (AAIException e) {
       response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET_RELATIONSHIP, e);
     } catch (Exception e) {
-      AAIException ex = new AAIException("AAI_4000", e);
+      AAIException ex = deadline.isExpired() ? deadline.timeout() : new AAIException("AAI_4000", e);
 
       response = consumerExceptionResponseGenerator(headers, info, HttpMethod.GET_RELATIONSHIP, ex);
     } finally {
       if (dbEngine != null) {
-        if (cleanUp.equals("true")) {
+        if (cleanUp.equals("true") && !deadline.isExpired()) {
           dbEngine.commit();
         } else {
           dbEngine.rollback();
@@ -406,6 +581,7 @@ public class ResourcesService {
     Response response;
 
     boolean success = true;
+    Set<String> touchedUris = new HashSet<>();
 
     try {
 
@@ -418,6 +594,10 @@ public class ResourcesService {
       Loader loader = traversalUriHttpEntry.getLoader();
 
       URI uriObject = UriBuilder.fromPath(uri).build();
+      String ifMatch = headers.getHeaderString(HttpHeaders.IF_MATCH);
+      if (ifMatch != null) {
+        checkIfMatch(ifMatch, getResourceVersion(dbEngine, toAaiUri(uri)));
+      }
 
       QueryParser uriQuery = dbEngine.getQueryBuilder().createQueryFromURI(uriObject);
       String objType = uriQuery.getResultType();
@@ -427,6 +607,7 @@ public class ResourcesService {
           .build();
       List<DBRequest> requests = new ArrayList<>();
       requests.add(request);
+      addTouchedUris(dbEngine, toAaiUri(uri), touchedUris);
       Pair<Boolean, List<Pair<URI, Response>>> responsesTuple = traversalUriHttpEntry.process(requests, sourceOfTruth,
           roles);
 
@@ -444,6 +625,7 @@ public class ResourcesService {
       if (dbEngine != null) {
         if (success) {
           dbEngine.commit();
+          touchedUris.forEach(getResponseCache::invalidate);
         } else {
           dbEngine.rollback();
         }
@@ -453,6 +635,213 @@ public class ResourcesService {
     return response;
   }
 
+  /**
+   * Adds the aai-uris of the objects whose cached GETs can show the object with the given aai-uri: the object
+   * itself and the objects related to it or to one of its descendants. Read before a write for the
+   * relationships it removes and after it, in the same transaction, for the relationships it adds.
+   */
+  void addTouchedUris(TransactionalGraphEngine dbEngine, String aaiUri, Set<String> touchedUris) {
+    touchedUris.add(aaiUri);
+    if (!getResponseCache.isEnabled()) {
+      return;
+    }
+    dbEngine.asAdmin().getTraversalSource().V().has(AAIProperties.AAI_URI, aaiUri)
+        .emit().repeat(__.both().has(AAIProperties.AAI_URI, TextP.startingWith(aaiUri + "/")).simplePath())
+        .dedup().both().<String>values(AAIProperties.AAI_URI).fill(touchedUris);
+  }
+
+  /**
+   * Gets the resource-version of the object with the given aai-uri, or null if it does not exist.
+   * Reads one property of the vertex found by the aai-uri index.
+   */
+  String getResourceVersion(TransactionalGraphEngine dbEngine, String aaiUri) {
+    return dbEngine.asAdmin().getTraversalSource().V().has(AAIProperties.AAI_URI, aaiUri)
+        .<String>values(AAIProperties.RESOURCE_VERSION).tryNext().orElse(null);
+  }
+
+  /**
+   * Whether a GET gets an ETag. The resource-version changes with the properties of the object only, not with
+   * its children or with the edges added from the other side, so only depth=0 with nodes-only is tagged.
+   */
+  boolean hasEntityTag(String depthParam, UriInfo info) {
+    return "0".equals(depthParam) && info.getQueryParameters().containsKey("nodes-only");
+  }
+
+  /**
+   * Gets a version of the relationships of the object with the given aai-uri, or null if it does not exist or
+   * has no relationships. It changes when a relationship is added or removed and when a related object is
+   * updated, as the relationship-data shows its properties.
+   */
+  String getRelationshipsVersion(TransactionalGraphEngine dbEngine, String aaiUri) {
+    Vertex vertex = dbEngine.asAdmin().getTraversalSource().V().has(AAIProperties.AAI_URI, aaiUri).tryNext()
+        .orElse(null);
+    if (vertex == null) {
+      return null;
+    }
+    List<String> relationships = new ArrayList<>();
+    Iterator<Edge> edges = vertex.edges(Direction.BOTH);
+    while (edges.hasNext()) {
+      Edge edge = edges.next();
+      if (AAIDirection.NONE.toString().equals(edge.property(EdgeProperty.CONTAINS.toString()).orElse(null))) {
+        Vertex related = edge.outVertex().equals(vertex) ? edge.inVertex() : edge.outVertex();
+        relationships.add(edge.label() + "|" + related.property(AAIProperties.AAI_URI).orElse("") + "|"
+            + related.property(AAIProperties.RESOURCE_VERSION).orElse(""));
+      }
+    }
+    if (relationships.isEmpty()) {
+      return null;
+    }
+    Collections.sort(relationships);
+    return "r" + Integer.toHexString(relationships.hashCode());
+  }
+
+  /**
+   * Gets the ETag of a representation of an object, derived from its resource-version and
+   * from the request parameters that change the representation.
+   */
+  EntityTag getEntityTag(String resourceVersion, String resource, String depth, HttpHeaders headers,
+      UriInfo info) {
+    MultivaluedMap<String, String> params = new MultivaluedHashMap<>(info.getQueryParameters());
+    params.remove("cleanup");
+    params.remove("depth");
+    String representation = resource + "|" + depth + "|" + new TreeMap<>(params) + "|"
+        + getMediaType(headers.getAcceptableMediaTypes());
+    return new EntityTag(resourceVersion + "-" + Integer.toHexString(representation.hashCode()));
+  }
+
+  /**
+   * Checks the If-None-Match header of the request against the ETag, with the weak comparison of RFC 9110.
+   */
+  boolean isNotModified(HttpHeaders headers, EntityTag entityTag) {
+    String ifNoneMatch = headers.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals("\"" + entityTag.getValue() + "\"")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks the If-Match header of a write against the resource-version of the stored object.
+   * The tags of GET responses match while the resource-version is unchanged, whatever their representation.
+   *
+   * @param ifMatch the If-Match header, null if not sent
+   * @param resourceVersion the resource-version of the stored object, null if it does not exist
+   * @throws AAIException AAI_6131 if the header does not match
+   */
+  void checkIfMatch(String ifMatch, String resourceVersion) throws AAIException {
+    if (ifMatch == null) {
+      return;
+    }
+    if (resourceVersion != null) {
+      for (String tag : ifMatch.split(",")) {
+        tag = tag.trim();
+        if (tag.equals("*") || tag.equals("\"" + resourceVersion + "\"")
+            || tag.startsWith("\"" + resourceVersion + "-")) {
+          return;
+        }
+      }
+    }
+    throw new AAIException("AAI_6131", "If-Match " + ifMatch + " does not match resource-version " + resourceVersion);
+  }
+
+  /**
+   * Checks if a PUT of the object would leave the stored vertex as it is.
+   * Objects with children or relationships in the payload are always treated as changed.
+   */
+  boolean isUnchanged(Introspector obj, Vertex stored) {
+    for (String property : obj.getProperties()) {
+      Object value = obj.getValue(property);
+      if (!obj.isSimpleType(property)) {
+        if (value != null && !(value instanceof List && ((List<?>) value).isEmpty())) {
+          return false;
+        }
+        continue;
+      }
+      String alias = obj.getPropertyMetadata(property, PropertyMetadata.DB_ALIAS);
+      Object storedValue = stored.property(alias != null ? alias : property).orElse(null);
+      if (value == null ? storedValue != null
+          : storedValue == null || !String.valueOf(value).equals(String.valueOf(storedValue))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String toAaiUri(String uri) {
+    String aaiUri = uri.startsWith("/") ? uri : "/" + uri;
+    return aaiUri.endsWith("/") ? aaiUri.substring(0, aaiUri.length() - 1) : aaiUri;
+  }
+
+  /**
+   * Gets a page of a cursor paginated collection GET, the objects of the query sorted by aai-uri after the
+   * last object of the previous page.
+   * The transaction is owned by the returned response, or rolled back if the page cannot be read.
+   *
+   * @param after the aai-uri of the last object of the previous page, null for the first page
+   */
+  private Response getCursorPage(SchemaVersion version, String sourceOfTruth, TransactionalGraphEngine pageEngine,
+      QueryBuilder<Vertex> query, String after, String queryKey, int pageSize,
+      StreamingCollectionOutput.Page page) throws AAIException {
+    List<Vertex> pageVertices;
+    DBSerializer serializer;
+    try {
+      GraphTraversal<Vertex, Vertex> traversal = query.getQuery();
+      if (after != null) {
+        traversal = traversal.has(AAIProperties.AAI_URI, P.gt(after));
+      }
+      // one object more than the page tells if there is a next page
+      pageVertices = traversal.order().by(AAIProperties.AAI_URI).limit(pageSize + 1L).toList();
+      if (pageVertices.isEmpty()) {
+        throw new AAIException("AAI_6114", after == null ? "No objects found" : "No objects after " + after);
+      }
+      serializer = new DBSerializer(version, pageEngine, ModelType.MOXY, sourceOfTruth);
+    } catch (AAIException | RuntimeException e) {
+      pageEngine.rollback();
+      throw e;
+    }
+    if (pageVertices.size() <= pageSize) {
+      return Response.ok(page.output(serializer, pageVertices.iterator(), pageEngine::rollback))
+          .type(MediaType.APPLICATION_JSON_TYPE).build();
+    }
+    pageVertices = pageVertices.subList(0, pageSize);
+    String next = PaginationCursors.encode(queryKey,
+        pageVertices.get(pageSize - 1).<String>value(AAIProperties.AAI_URI));
+    return Response.ok(page.output(serializer, pageVertices.iterator(), pageEngine::rollback))
+        .type(MediaType.APPLICATION_JSON_TYPE).header(NEXT_CURSOR, next).build();
+  }
+
+  /**
+   * Checks if a collection GET can be streamed, which is done for json responses at depth 0 or with sparse fields
+   * and without offset pagination, cleanup, format or skip-related-to.
+   */
+  private boolean isStreamable(SchemaVersion version, String cleanUp, HttpHeaders headers, UriInfo info,
+      Pageable pageable, boolean sparse) {
+    MultivaluedMap<String, String> params = info.getQueryParameters();
+    if ("true".equals(cleanUp) || hasValidPaginationParams(pageable)
+        || !MediaType.APPLICATION_JSON.equals(getMediaType(headers.getAcceptableMediaTypes()))
+        || params.containsKey("format") || params.containsKey("skip-related-to")) {
+      return false;
+    }
+    String depth = params.getFirst("depth");
+    if (sparse) {
+      return true;
+    }
+    if (depth == null) {
+      SchemaVersions schemaVersions = (SchemaVersions) SpringContextAware.getBean("schemaVersions");
+      return version.compareTo(schemaVersions.getDepthVersion()) >= 0;
+    }
+    return "0".equals(depth);
+  }
+
   private String getMediaType(List<MediaType> mediaTypeList) {
     String mediaType = "application/json";
     Iterator<MediaType> mediaTypes = mediaTypeList.iterator();
@@ -470,10 +859,10 @@ public class ResourcesService {
     return pageable.getPage() >= 0 && pageable.getPageSize() > 0;
   }
 
-  private MultivaluedMap<String, String> removeNonFilterableParams(MultivaluedMap<String, String> params) {
+  MultivaluedMap<String, String> removeNonFilterableParams(MultivaluedMap<String, String> params) {
 
     String[] toRemove = { "depth", "cleanup", "nodes-only", "format", "resultIndex", "resultSize", "includeTotalCount",
-        "skip-related-to" };
+        "skip-related-to", "cursor", SparseFields.FIELDS };
     Set<String> toRemoveSet = Arrays.stream(toRemove).collect(Collectors.toSet());
 
     MultivaluedMap<String, String> cleanedParams = new MultivaluedHashMap<>();
@@ -504,7 +893,7 @@ public class ResourcesService {
     }
   }
 
-  private void validateIntrospector(Introspector obj, Loader loader, URI uri, HttpMethod method)
+  void validateIntrospector(Introspector obj, Loader loader, URI uri, HttpMethod method)
       throws AAIException, UnsupportedEncodingException {
     int maximumDepth = AAIProperties.MAXIMUM_DEPTH;
     boolean validateRequired = true;
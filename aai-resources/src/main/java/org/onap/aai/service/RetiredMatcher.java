@@ -0,0 +1,69 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Matches request paths against all retired patterns at once.
+ *
+ * Each list is compiled into a single alternation, so a path is matched once per list instead of once per pattern.
+ * Decisions are not cached, almost every path holds ids and would hardly ever be requested twice.
+ * An instance is immutable, a changed retired list gets a new matcher.
+ */
+public class RetiredMatcher {
+
+    public enum Decision {
+        ACTIVE,
+        /** retired in the requested version */
+        RETIRED,
+        /** retired in all versions */
+        RETIRED_ALL_VERSIONS
+    }
+
+    private final Pattern retired;
+    private final Pattern retiredAllVersions;
+
+    public RetiredMatcher(List<Pattern> retiredPatterns, List<Pattern> retiredAllVersionPatterns) {
+        this.retired = combine(retiredPatterns);
+        this.retiredAllVersions = combine(retiredAllVersionPatterns);
+    }
+
+    public Decision match(String path) {
+        if (retiredAllVersions != null && retiredAllVersions.matcher(path).matches()) {
+            return Decision.RETIRED_ALL_VERSIONS;
+        }
+        if (retired != null && retired.matcher(path).matches()) {
+            return Decision.RETIRED;
+        }
+        return Decision.ACTIVE;
+    }
+
+    private static Pattern combine(List<Pattern> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        return Pattern.compile(
+                patterns.stream().map(p -> "(?:" + p.pattern() + ")").collect(Collectors.joining("|")));
+    }
+}
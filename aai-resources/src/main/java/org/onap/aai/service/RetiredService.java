@@ -20,35 +20,62 @@
 
 package org.onap.aai.service;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Properties;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Service;
 
+/**
+ * The retired uri patterns. When retired.properties exists in server.local.startpath it is checked for
+ * changes every retired.api.reload.interval.ms, a changed file replaces the patterns without a restart.
+ * As at startup, a key missing from the file keeps the value of the classpath retired.properties.
+ */
 @Service
 @PropertySource("classpath:retired.properties")
 @PropertySource(value = "file:${server.local.startpath}/retired.properties", ignoreResourceNotFound=true)
 public class RetiredService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetiredService.class);
+
+    private static final String RETIRED_PATTERN_LIST = "retired.api.pattern.list";
+    private static final String RETIRED_ALL_VERSIONS = "retired.api.all.versions";
+
     private String retiredPatterns;
 
     private String retiredAllVersions;
 
-    private List<Pattern> retiredPatternsList;
-    private List<Pattern> retiredAllVersionList;
+    private volatile List<Pattern> retiredPatternsList;
+    private volatile List<Pattern> retiredAllVersionList;
+
+    private volatile RetiredMatcher matcher;
+
+    private File retiredFile;
+    private long reloadIntervalMs = 60000;
+    private volatile long nextReloadCheck;
+    private long lastModified;
 
     @PostConstruct
     public void initialize() {
-        this.retiredPatternsList =
-                Arrays.stream(retiredPatterns.split(",")).map(Pattern::compile).collect(Collectors.toList());
-        this.retiredAllVersionList =
-                Arrays.stream(retiredAllVersions.split(",")).map(Pattern::compile).collect(Collectors.toList());
+        this.retiredPatternsList = compile(retiredPatterns);
+        this.retiredAllVersionList = compile(retiredAllVersions);
+        this.matcher = new RetiredMatcher(retiredPatternsList, retiredAllVersionList);
+        if (retiredFile != null) {
+            this.lastModified = retiredFile.lastModified();
+        }
+        this.nextReloadCheck = System.currentTimeMillis() + reloadIntervalMs;
     }
 
     @Value("${retired.api.pattern.list}")
@@ -68,4 +95,55 @@ public class RetiredService {
     public List<Pattern> getRetiredAllVersionList() {
         return retiredAllVersionList;
     }
+
+    @Value("${server.local.startpath:}")
+    public void setStartPath(String startPath) {
+        this.retiredFile = startPath.isEmpty() ? null : new File(startPath, "retired.properties");
+    }
+
+    @Value("${retired.api.reload.interval.ms:60000}")
+    public void setReloadIntervalMs(long reloadIntervalMs) {
+        this.reloadIntervalMs = reloadIntervalMs;
+    }
+
+    /**
+     * Gets the matcher of the current retired patterns, reloading them first when retired.properties changed.
+     */
+    public RetiredMatcher getMatcher() {
+        if (retiredFile != null && System.currentTimeMillis() >= nextReloadCheck) {
+            reloadIfModified();
+        }
+        return matcher;
+    }
+
+    synchronized void reloadIfModified() {
+        long now = System.currentTimeMillis();
+        if (now < nextReloadCheck) {
+            return;
+        }
+        nextReloadCheck = now + reloadIntervalMs;
+        long modified = retiredFile.lastModified();
+        if (modified == 0 || modified == lastModified) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(retiredFile)) {
+            properties.load(in);
+            List<Pattern> patterns = compile(properties.getProperty(RETIRED_PATTERN_LIST, retiredPatterns));
+            List<Pattern> allVersions = compile(properties.getProperty(RETIRED_ALL_VERSIONS, retiredAllVersions));
+            this.retiredPatternsList = patterns;
+            this.retiredAllVersionList = allVersions;
+            this.matcher = new RetiredMatcher(patterns, allVersions);
+            this.lastModified = modified;
+            LOGGER.info("Reloaded the retired patterns from {}", retiredFile);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not reload the retired patterns from {}, keeping the current ones: {}", retiredFile,
+                    e.getMessage());
+        }
+    }
+
+    private static List<Pattern> compile(String patterns) {
+        return Arrays.stream(patterns.split(",")).map(String::trim).filter(p -> !p.isEmpty()).map(Pattern::compile)
+                .collect(Collectors.toList());
+    }
 }
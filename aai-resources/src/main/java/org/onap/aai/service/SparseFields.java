@@ -0,0 +1,92 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.introspection.Introspector;
+import org.onap.aai.introspection.Loader;
+import org.onap.aai.serialization.db.DBSerializer;
+
+/**
+ * Sparse fieldsets of GETs with the fields query param, e.g. ?fields=hostname,resource-version.
+ * The object is read by the serializer at depth 0 without relationships, like the full GET would read it,
+ * and only the selected properties are kept, so the response carries the same values as the full GET
+ * but only those properties and no children or relationships.
+ * Fields cannot be combined with depth or nodes-only, and collections support them only for the json responses
+ * that are streamed, the other combinations are rejected with AAI_3000.
+ */
+final class SparseFields {
+
+    static final String FIELDS = "fields";
+
+    private SparseFields() {
+    }
+
+    /**
+     * Parses the fields query param.
+     *
+     * @param fields the comma separated property names, null if the param was not sent
+     * @param loader the loader of the requested version
+     * @param objectType the requested object type
+     * @return the property names, null if the param was not sent
+     * @throws AAIException AAI_3000 if a name is not a simple property of the object type
+     */
+    static Set<String> parse(String fields, Loader loader, String objectType) throws AAIException {
+        if (fields == null) {
+            return null;
+        }
+        Introspector obj = loader.introspectorFromName(objectType);
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!obj.hasProperty(name) || !obj.isSimpleType(name)) {
+                throw new AAIException("AAI_3000", "fields=" + name + " is not a property of " + obj.getDbName());
+            }
+            names.add(name);
+        }
+        if (names.isEmpty()) {
+            throw new AAIException("AAI_3000", "fields must name at least one property of " + obj.getDbName());
+        }
+        return names;
+    }
+
+    /**
+     * Reads the object of the vertex into the introspector with the serializer and keeps the given properties.
+     */
+    static void read(DBSerializer serializer, Vertex vertex, Introspector obj, Set<String> fields, String cleanUp)
+            throws AAIException, UnsupportedEncodingException {
+        serializer.dbToObject(Collections.singletonList(vertex), obj, 0, true, cleanUp);
+        for (String property : obj.getProperties()) {
+            if (!fields.contains(property)) {
+                obj.setValue(property, null);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.onap.aai.introspection.Introspector;
+import org.onap.aai.introspection.Loader;
+import org.onap.aai.introspection.MarshallerProperties;
+import org.onap.aai.rest.util.RequestDeadline;
+import org.onap.aai.restcore.MediaType;
+import org.onap.aai.serialization.db.DBSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the json of a collection GET while iterating its traversal, so that only one object at a time
+ * is held in memory instead of all introspectors and the whole document.
+ * With sparse fields, only the selected properties of each object are written.
+ * The close action, usually the rollback of the transaction, runs once the response is written, or once
+ * the request has finished if it never is, see the RequestCompletionListener.
+ * The deadline is checked between the objects, the container thread that writes is never interrupted.
+ */
+class StreamingCollectionOutput implements StreamingOutput, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingCollectionOutput.class);
+
+    private static final MarshallerProperties JSON =
+            new MarshallerProperties.Builder(MediaType.APPLICATION_JSON_TYPE).build();
+
+    private final DBSerializer serializer;
+    private final Loader loader;
+    private final Iterator<Vertex> vertices;
+    private final String listName;
+    private final String resultType;
+    private final boolean nodesOnly;
+    private final String cleanUp;
+    private final Set<String> fields;
+    private final RequestDeadline deadline;
+    private final Runnable close;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    StreamingCollectionOutput(DBSerializer serializer, Loader loader, Iterator<Vertex> vertices, String listName,
+            String resultType, boolean nodesOnly, String cleanUp, Set<String> fields, RequestDeadline deadline,
+            Runnable close) {
+        this.serializer = serializer;
+        this.loader = loader;
+        this.vertices = vertices;
+        this.listName = listName;
+        this.resultType = resultType;
+        this.nodesOnly = nodesOnly;
+        this.cleanUp = cleanUp;
+        this.fields = fields;
+        this.deadline = deadline;
+        this.close = close;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        int count = 0;
+        try {
+            writer.write("{\"" + listName + "\":[");
+            while (vertices.hasNext()) {
+                deadline.check();
+                Introspector obj = loader.introspectorFromName(resultType);
+                if (fields != null) {
+                    SparseFields.read(serializer, vertices.next(), obj, fields, cleanUp);
+                } else {
+                    serializer.dbToObject(Collections.singletonList(vertices.next()), obj, 0, nodesOnly, cleanUp);
+                }
+                if (count++ > 0) {
+                    writer.write(',');
+                }
+                writer.write(obj.marshal(JSON));
+            }
+            writer.write("]}");
+            writer.flush();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            // the status is already sent, the client sees a truncated document
+            LOGGER.error("Streaming of {} failed after {} objects: {}", listName, count, e.getMessage());
+            throw new WebApplicationException(e);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Runs the close action, only the first call has an effect.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            close.run();
+        }
+    }
+
+    /**
+     * The parts of the output that are known before the traversal and transaction of a page are.
+     */
+    static final class Page {
+
+        private final Loader loader;
+        private final String listName;
+        private final String resultType;
+        private final boolean nodesOnly;
+        private final String cleanUp;
+        private final Set<String> fields;
+        private final RequestDeadline deadline;
+
+        Page(Loader loader, String listName, String resultType, boolean nodesOnly, String cleanUp,
+                Set<String> fields, RequestDeadline deadline) {
+            this.loader = loader;
+            this.listName = listName;
+            this.resultType = resultType;
+            this.nodesOnly = nodesOnly;
+            this.cleanUp = cleanUp;
+            this.fields = fields;
+            this.deadline = deadline;
+        }
+
+        StreamingCollectionOutput output(DBSerializer serializer, Iterator<Vertex> vertices, Runnable close) {
+            return new StreamingCollectionOutput(serializer, loader, vertices, listName, resultType, nodesOnly,
+                    cleanUp, fields, deadline, close);
+        }
+    }
+}
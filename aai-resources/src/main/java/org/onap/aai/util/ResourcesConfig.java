@@ -0,0 +1,451 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Immutable snapshot of the aaiconfig.properties values that are read per request.
+ *
+ * The values are parsed once into final fields. A daemon timer reads them again from {@link AAIConfig}
+ * every aai.config.checktime ms, the interval in which AAIConfig picks up a changed file, and swaps
+ * the snapshot when one of them changed, so invalid values are only parsed and warned about once per change.
+ * Readers get the snapshot with {@link #current()}, the timer is stopped with {@link #shutdown()}.
+ */
+public final class ResourcesConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourcesConfig.class);
+
+    public static final String TRANSACTION_LOGGING = "aai.transaction.logging";
+    public static final String TRANSACTION_LOGGING_GET = "aai.transaction.logging.get";
+    public static final String TRANSACTION_LOGGING_REQUEST_MAX_BYTES = "aai.transaction.logging.request.maxbytes";
+    public static final String TRANSACTION_LOGGING_RESPONSE_MAX_BYTES = "aai.transaction.logging.response.maxbytes";
+    public static final String TRANSACTION_LOGGING_SAMPLE_RATE = "aai.transaction.logging.sample.rate";
+    public static final String TRANSACTION_LOGGING_SAMPLE_SOURCES = "aai.transaction.logging.sample.sources";
+    public static final String TRANSACTION_LOGGING_SAMPLE_ERRORS = "aai.transaction.logging.sample.errors";
+    public static final String DEFAULT_API_VERSION = "aai.default.api.version";
+    public static final String BULK_PARALLEL_ENABLED = "aai.bulkconsumer.parallel.enabled";
+    public static final String BULK_PARALLEL_MAX_CONCURRENCY = "aai.bulkconsumer.parallel.maxconcurrency";
+    public static final String CONCURRENCY_LIMIT_ENABLED = "aai.concurrency.limit.enabled";
+    public static final String CONCURRENCY_LIMIT_GLOBAL = "aai.concurrency.limit.global";
+    public static final String CONCURRENCY_LIMIT_DEFAULT = "aai.concurrency.limit.default";
+    public static final String CONCURRENCY_LIMIT_APP = "aai.concurrency.limit.appspecific";
+    public static final String CONCURRENCY_LIMIT_MIN = "aai.concurrency.limit.min";
+    public static final String CONCURRENCY_LIMIT_LATENCY_TARGET = "aai.concurrency.limit.latency.target.ms";
+    public static final String CONCURRENCY_LIMIT_BACKOFF = "aai.concurrency.limit.backoff";
+    public static final String CONCURRENCY_LIMIT_RETRY_AFTER = "aai.concurrency.limit.retryafter.sec";
+    public static final String WRITE_NOOP_DETECTION = "aai.write.noop.detection.enabled";
+    public static final String GET_STREAMING = "aai.get.streaming.enabled";
+    public static final String BULK_READ_LIMIT = "aai.bulk.read.limit";
+
+    private static final String CONFIG_CHECK_TIME = "aai.config.checktime";
+    private static final int DEFAULT_MAX_BYTES = 65536;
+    private static final int DEFAULT_BULK_LIMIT = 30;
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put(TRANSACTION_LOGGING, "false");
+        DEFAULTS.put(TRANSACTION_LOGGING_GET, "false");
+        DEFAULTS.put(TRANSACTION_LOGGING_REQUEST_MAX_BYTES, String.valueOf(DEFAULT_MAX_BYTES));
+        DEFAULTS.put(TRANSACTION_LOGGING_RESPONSE_MAX_BYTES, String.valueOf(DEFAULT_MAX_BYTES));
+        DEFAULTS.put(TRANSACTION_LOGGING_SAMPLE_RATE, "1");
+        DEFAULTS.put(TRANSACTION_LOGGING_SAMPLE_SOURCES, "");
+        DEFAULTS.put(TRANSACTION_LOGGING_SAMPLE_ERRORS, "true");
+        DEFAULTS.put(AAIConstants.AAI_NODENAME, null);
+        DEFAULTS.put(DEFAULT_API_VERSION, "");
+        DEFAULTS.put(AAIConstants.AAI_BULKCONSUMER_LIMIT, String.valueOf(DEFAULT_BULK_LIMIT));
+        DEFAULTS.put(AAIConstants.AAI_BULKCONSUMER_OVERRIDE_LIMIT, "false");
+        DEFAULTS.put(BULK_PARALLEL_ENABLED, "false");
+        DEFAULTS.put(BULK_PARALLEL_MAX_CONCURRENCY, "5");
+        DEFAULTS.put(AAIConstants.AAI_CRUD_TIMEOUT_ENABLED, "false");
+        DEFAULTS.put(AAIConstants.AAI_CRUD_TIMEOUT_APP, "");
+        DEFAULTS.put(AAIConstants.AAI_CRUD_TIMEOUT_LIMIT, "100000");
+        DEFAULTS.put(CONCURRENCY_LIMIT_ENABLED, "false");
+        DEFAULTS.put(CONCURRENCY_LIMIT_GLOBAL, "180");
+        DEFAULTS.put(CONCURRENCY_LIMIT_DEFAULT, "50");
+        DEFAULTS.put(CONCURRENCY_LIMIT_APP, "");
+        DEFAULTS.put(CONCURRENCY_LIMIT_MIN, "2");
+        DEFAULTS.put(CONCURRENCY_LIMIT_LATENCY_TARGET, "2000");
+        DEFAULTS.put(CONCURRENCY_LIMIT_BACKOFF, "0.9");
+        DEFAULTS.put(CONCURRENCY_LIMIT_RETRY_AFTER, "1");
+        DEFAULTS.put(WRITE_NOOP_DETECTION, "false");
+        DEFAULTS.put(GET_STREAMING, "false");
+        DEFAULTS.put(BULK_READ_LIMIT, "500");
+    }
+
+    private static volatile ResourcesConfig current;
+    private static Timer refreshTimer;
+
+    private final Map<String, String> values;
+
+    private final boolean transactionLogging;
+    private final boolean transactionLoggingGet;
+    private final int transactionLoggingRequestMaxBytes;
+    private final int transactionLoggingResponseMaxBytes;
+    private final double transactionLoggingSampleRate;
+    private final Map<String, Double> transactionLoggingSampleSources;
+    private final boolean transactionLoggingSampleErrors;
+    private final String nodeName;
+    private final String defaultApiVersion;
+    private final int bulkConsumerLimit;
+    private final String bulkConsumerOverrideLimit;
+    private final boolean bulkParallelEnabled;
+    private final int bulkParallelMaxConcurrency;
+    private final boolean crudTimeoutEnabled;
+    private final Map<String, Integer> crudTimeoutApps;
+    private final int crudTimeoutLimit;
+    private final boolean concurrencyLimitEnabled;
+    private final int concurrencyLimitGlobal;
+    private final int concurrencyLimitDefault;
+    private final Map<String, Integer> concurrencyLimitApps;
+    private final int concurrencyLimitMin;
+    private final long concurrencyLimitLatencyTargetMs;
+    private final double concurrencyLimitBackoff;
+    private final int concurrencyLimitRetryAfter;
+    private final boolean writeNoopDetection;
+    private final boolean getStreaming;
+    private final int bulkReadLimit;
+
+    ResourcesConfig(Map<String, String> values) {
+        this.values = values;
+        this.transactionLogging = Boolean.parseBoolean(values.get(TRANSACTION_LOGGING));
+        this.transactionLoggingGet = Boolean.parseBoolean(values.get(TRANSACTION_LOGGING_GET));
+        this.transactionLoggingRequestMaxBytes =
+                parseInt(values, TRANSACTION_LOGGING_REQUEST_MAX_BYTES, DEFAULT_MAX_BYTES);
+        this.transactionLoggingResponseMaxBytes =
+                parseInt(values, TRANSACTION_LOGGING_RESPONSE_MAX_BYTES, DEFAULT_MAX_BYTES);
+        this.transactionLoggingSampleRate = parseRate(values.get(TRANSACTION_LOGGING_SAMPLE_RATE));
+        this.transactionLoggingSampleSources = parseSources(values.get(TRANSACTION_LOGGING_SAMPLE_SOURCES));
+        this.transactionLoggingSampleErrors = Boolean.parseBoolean(values.get(TRANSACTION_LOGGING_SAMPLE_ERRORS));
+        this.nodeName = values.get(AAIConstants.AAI_NODENAME);
+        this.defaultApiVersion = values.get(DEFAULT_API_VERSION);
+        this.bulkConsumerLimit = parseInt(values, AAIConstants.AAI_BULKCONSUMER_LIMIT, DEFAULT_BULK_LIMIT);
+        this.bulkConsumerOverrideLimit = values.get(AAIConstants.AAI_BULKCONSUMER_OVERRIDE_LIMIT);
+        this.bulkParallelEnabled = Boolean.parseBoolean(values.get(BULK_PARALLEL_ENABLED));
+        this.bulkParallelMaxConcurrency = parseInt(values, BULK_PARALLEL_MAX_CONCURRENCY, 5);
+        this.crudTimeoutEnabled = Boolean.parseBoolean(values.get(AAIConstants.AAI_CRUD_TIMEOUT_ENABLED));
+        this.crudTimeoutApps = parseAppLimits(values.get(AAIConstants.AAI_CRUD_TIMEOUT_APP));
+        this.crudTimeoutLimit = parseInt(values, AAIConstants.AAI_CRUD_TIMEOUT_LIMIT, 100000);
+        this.concurrencyLimitEnabled = Boolean.parseBoolean(values.get(CONCURRENCY_LIMIT_ENABLED));
+        this.concurrencyLimitGlobal = parseInt(values, CONCURRENCY_LIMIT_GLOBAL, 180);
+        this.concurrencyLimitDefault = parseInt(values, CONCURRENCY_LIMIT_DEFAULT, 50);
+        this.concurrencyLimitApps = parseAppLimits(values.get(CONCURRENCY_LIMIT_APP));
+        this.concurrencyLimitMin = Math.max(1, parseInt(values, CONCURRENCY_LIMIT_MIN, 2));
+        this.concurrencyLimitLatencyTargetMs = parseInt(values, CONCURRENCY_LIMIT_LATENCY_TARGET, 2000);
+        this.concurrencyLimitBackoff = parseBackoff(values.get(CONCURRENCY_LIMIT_BACKOFF));
+        this.concurrencyLimitRetryAfter = parseInt(values, CONCURRENCY_LIMIT_RETRY_AFTER, 1);
+        this.writeNoopDetection = Boolean.parseBoolean(values.get(WRITE_NOOP_DETECTION));
+        this.getStreaming = Boolean.parseBoolean(values.get(GET_STREAMING));
+        this.bulkReadLimit = parseInt(values, BULK_READ_LIMIT, 500);
+    }
+
+    /**
+     * Reads the snapshot values with the given lookup, missing values get their default.
+     *
+     * @param lookup takes the key and the default, e.g. AAIConfig::get
+     */
+    public static ResourcesConfig from(BiFunction<String, String, String> lookup) {
+        return new ResourcesConfig(read(lookup));
+    }
+
+    private static Map<String, String> read(BiFunction<String, String, String> lookup) {
+        Map<String, String> values = new HashMap<>();
+        DEFAULTS.forEach((key, defaultValue) -> values.put(key, lookup.apply(key, defaultValue)));
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Gets the current snapshot, the first call reads it and starts the refresh timer.
+     */
+    public static ResourcesConfig current() {
+        ResourcesConfig config = current;
+        if (config == null) {
+            config = initialize();
+        }
+        return config;
+    }
+
+    private static synchronized ResourcesConfig initialize() {
+        if (current == null) {
+            current = from(AAIConfig::get);
+            Map<String, String> checkTime =
+                    Collections.singletonMap(CONFIG_CHECK_TIME, AAIConfig.get(CONFIG_CHECK_TIME, "1000"));
+            long period = parseInt(checkTime, CONFIG_CHECK_TIME, 1000);
+            refreshTimer = new Timer("aai-config-snapshot", true);
+            refreshTimer.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    refresh();
+                }
+            }, period, period);
+        }
+        return current;
+    }
+
+    /**
+     * Stops the refresh timer, the current snapshot stays in use.
+     */
+    public static synchronized void shutdown() {
+        if (refreshTimer != null) {
+            refreshTimer.cancel();
+            refreshTimer = null;
+        }
+    }
+
+    /**
+     * Reads the values again and swaps the snapshot when one of them changed.
+     */
+    static void refresh() {
+        try {
+            Map<String, String> values = read(AAIConfig::get);
+            if (!values.equals(current.values)) {
+                current = new ResourcesConfig(values);
+                LOGGER.info("Reloaded the aai-resources configuration snapshot");
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not reload the aai-resources configuration snapshot: {}", e.getMessage());
+        }
+    }
+
+    public boolean isTransactionLogging() {
+        return transactionLogging;
+    }
+
+    public boolean isTransactionLoggingGet() {
+        return transactionLoggingGet;
+    }
+
+    public int getTransactionLoggingRequestMaxBytes() {
+        return transactionLoggingRequestMaxBytes;
+    }
+
+    public int getTransactionLoggingResponseMaxBytes() {
+        return transactionLoggingResponseMaxBytes;
+    }
+
+    public double getTransactionLoggingSampleRate() {
+        return transactionLoggingSampleRate;
+    }
+
+    /**
+     * @return the sample rates by source of truth, unmodifiable
+     */
+    public Map<String, Double> getTransactionLoggingSampleSources() {
+        return transactionLoggingSampleSources;
+    }
+
+    public boolean isTransactionLoggingSampleErrors() {
+        return transactionLoggingSampleErrors;
+    }
+
+    /**
+     * @return the node name or null when it is not configured
+     */
+    public String getNodeName() {
+        return nodeName;
+    }
+
+    public String getDefaultApiVersion() {
+        return defaultApiVersion;
+    }
+
+    public int getBulkConsumerLimit() {
+        return bulkConsumerLimit;
+    }
+
+    /**
+     * Checks a X-OverrideLimit header value against aai.bulkconsumer.payloadoverride.
+     *
+     * @return true if the override is enabled and the value matches it
+     */
+    public boolean isBulkConsumerOverride(String overrideLimit) {
+        return overrideLimit != null && !"false".equals(bulkConsumerOverrideLimit)
+                && overrideLimit.equals(bulkConsumerOverrideLimit);
+    }
+
+    public boolean isBulkParallelEnabled() {
+        return bulkParallelEnabled;
+    }
+
+    public int getBulkParallelMaxConcurrency() {
+        return bulkParallelMaxConcurrency;
+    }
+
+    /**
+     * Gets the request timeout of a client from aai.crud.timeout.appspecific or else aai.crud.timeoutlimit.
+     *
+     * @return the timeout in ms, -1 if aai.crud.timeoutenabled is false or the client bypasses it
+     */
+    public long getCrudTimeout(String appId) {
+        if (!crudTimeoutEnabled) {
+            return -1;
+        }
+        return appId == null ? crudTimeoutLimit : crudTimeoutApps.getOrDefault(appId, crudTimeoutLimit);
+    }
+
+    public boolean isConcurrencyLimitEnabled() {
+        return concurrencyLimitEnabled;
+    }
+
+    /**
+     * @return the maximum of requests in flight over all clients, -1 for no limit
+     */
+    public int getConcurrencyLimitGlobal() {
+        return concurrencyLimitGlobal;
+    }
+
+    /**
+     * Gets the maximum of requests in flight of a client from aai.concurrency.limit.appspecific
+     * or else aai.concurrency.limit.default.
+     *
+     * @return the limit, -1 for no limit
+     */
+    public int getConcurrencyLimit(String appId) {
+        return appId == null ? concurrencyLimitDefault
+                : concurrencyLimitApps.getOrDefault(appId, concurrencyLimitDefault);
+    }
+
+    /**
+     * @return true if aai.concurrency.limit.appspecific has a limit of the client's own
+     */
+    public boolean hasConcurrencyLimit(String appId) {
+        return appId != null && concurrencyLimitApps.containsKey(appId);
+    }
+
+    public int getConcurrencyLimitMin() {
+        return concurrencyLimitMin;
+    }
+
+    public long getConcurrencyLimitLatencyTargetMs() {
+        return concurrencyLimitLatencyTargetMs;
+    }
+
+    public double getConcurrencyLimitBackoff() {
+        return concurrencyLimitBackoff;
+    }
+
+    public int getConcurrencyLimitRetryAfter() {
+        return concurrencyLimitRetryAfter;
+    }
+
+    /**
+     * @return true if PUTs that would not change the stored object are answered without writing
+     */
+    public boolean isWriteNoopDetection() {
+        return writeNoopDetection;
+    }
+
+    /**
+     * @return true if json collection GETs at depth 0 are written while the traversal is iterated
+     */
+    public boolean isGetStreaming() {
+        return getStreaming;
+    }
+
+    /**
+     * @return the maximum of uris in one bulk/read request
+     */
+    public int getBulkReadLimit() {
+        return bulkReadLimit;
+    }
+
+    private static int parseInt(Map<String, String> values, String key, int defaultValue) {
+        try {
+            return Integer.parseInt(values.get(key).trim());
+        } catch (NullPointerException | NumberFormatException e) {
+            LOGGER.warn("Invalid value {} of {}, using {}", values.get(key), key, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static double parseRate(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NullPointerException | NumberFormatException e) {
+            LOGGER.warn("Invalid transaction log sample rate {}, using 1", value);
+            return 1;
+        }
+    }
+
+    private static double parseBackoff(String value) {
+        try {
+            double backoff = Double.parseDouble(value.trim());
+            if (backoff > 0 && backoff < 1) {
+                return backoff;
+            }
+        } catch (NullPointerException | NumberFormatException e) {
+            // logged below
+        }
+        LOGGER.warn("Invalid concurrency limit backoff {}, using 0.9", value);
+        return 0.9;
+    }
+
+    /**
+     * Parses values per app id in the format of aai.crud.timeout.appspecific, e.g. SO,100|robot,5|DCAE,-1
+     */
+    private static Map<String, Integer> parseAppLimits(String value) {
+        Map<String, Integer> limits = new HashMap<>();
+        if (value == null) {
+            return limits;
+        }
+        for (String entry : value.split("\\|")) {
+            String[] parts = entry.split(",");
+            try {
+                if (parts.length == 2) {
+                    limits.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+                    continue;
+                }
+            } catch (NumberFormatException e) {
+                // logged below
+            }
+            if (!entry.isBlank()) {
+                LOGGER.warn("Ignoring the app specific value {}, expected appId,value", entry);
+            }
+        }
+        return Collections.unmodifiableMap(limits);
+    }
+
+    private static Map<String, Double> parseSources(String value) {
+        Map<String, Double> rates = new HashMap<>();
+        if (value == null) {
+            return rates;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator > 0) {
+                rates.put(entry.substring(0, separator).trim(), parseRate(entry.substring(separator + 1)));
+            } else if (!entry.isBlank()) {
+                LOGGER.warn("Ignoring the transaction log sample rate {}, expected sourceOfTruth:rate", entry);
+            }
+        }
+        return Collections.unmodifiableMap(rates);
+    }
+}
@@ -38,12 +38,15 @@ import jakarta.ws.rs.ext.ReaderInterceptor;
 
 import org.glassfish.jersey.logging.LoggingFeature;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.onap.aai.rest.BulkAddConsumer;
 import org.onap.aai.rest.BulkProcessConsumer;
 import org.onap.aai.rest.ExampleConsumer;
 import org.onap.aai.rest.ResourcesController;
 import org.onap.aai.rest.URLFromVertexIdConsumer;
 import org.onap.aai.rest.VertexIdConsumer;
+import org.onap.aai.rest.bulk.BulkReadConsumer;
+import org.onap.aai.rest.bulk.BulkJobConsumer;
 import org.onap.aai.rest.bulk.BulkSingleTransactionConsumer;
 import org.onap.aai.rest.util.EchoResponse;
 import org.onap.logging.filter.base.AuditLogContainerFilter;
@@ -78,10 +81,11 @@ public class JerseyConfiguration {
 
         Set<Class<?>> classes = Sets.newHashSet(EchoResponse.class, VertexIdConsumer.class, ExampleConsumer.class,
                 BulkAddConsumer.class, BulkProcessConsumer.class, BulkSingleTransactionConsumer.class,
-                ResourcesController.class, URLFromVertexIdConsumer.class);
+                ResourcesController.class, URLFromVertexIdConsumer.class, BulkJobConsumer.class,
+                BulkReadConsumer.class);
         resourceConfig.registerClasses(classes);
         registerFiltersForClasses(resourceConfig, ContainerRequestFilter.class, ContainerResponseFilter.class,
-                ReaderInterceptor.class,
+                ReaderInterceptor.class, ApplicationEventListener.class,
                 AuditLogContainerFilter.class);
 
         if (isLoggingEnabled()) {
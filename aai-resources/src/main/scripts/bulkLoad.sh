@@ -0,0 +1,40 @@
+#!/bin/ksh
+
+###
+# ============LICENSE_START=======================================================
+# org.onap.aai
+# ================================================================================
+# Copyright © 2026 Deutsche Telekom. All rights reserved.
+# ================================================================================
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#      http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+# ============LICENSE_END=========================================================
+###
+
+#
+# In process alternative to bulkprocess.sh: loads every json file of the input folder through the
+# bulk process logic without a http request per file. Files are loaded in ls -v order and the results
+# of each file are saved as <jsonfilename without json>.YYYYMMDDhhmmss.results.json in the output folder.
+#
+# Usage: bulkLoad.sh -inputFolder <folder> -fromAppId <X-FromAppId> [-transId <X-TransactionId>]
+#        [-outputFolder /tmp] [-threads 1] [-batchSize 1] [-parseThreads 2] [-version <schema version>]
+#
+
+COMMON_ENV_PATH=$( cd "$(dirname "$0")" ; pwd -P )
+. ${COMMON_ENV_PATH}/common_functions.sh
+
+start_date;
+check_user;
+source_profile;
+execute_spring_jar org.onap.aai.BulkLoadTool ${PROJECT_HOME}/resources/logback.xml "$@"
+end_date;
+exit 0
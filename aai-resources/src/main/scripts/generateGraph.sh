@@ -0,0 +1,39 @@
+#!/bin/ksh
+
+###
+# ============LICENSE_START=======================================================
+# org.onap.aai
+# ================================================================================
+# Copyright © 2026 Deutsche Telekom. All rights reserved.
+# ================================================================================
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#      http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+# ============LICENSE_END=========================================================
+###
+
+#
+# Generates a synthetic graph for load tests from node type trees and cousin edges.
+# Runs with the same options and seed generate the same graph.
+#
+# Usage: generateGraph.sh -tree cloud-region:2,tenant:10,vserver:20,l-interface:2 [-tree pserver:100]
+#        [-cousin vserver:pserver:1] [-seed 1] [-prefix gen] [-threads 1] [-batchSize 1000] [-version <schema version>]
+#
+
+COMMON_ENV_PATH=$( cd "$(dirname "$0")" ; pwd -P )
+. ${COMMON_ENV_PATH}/common_functions.sh
+
+start_date;
+check_user;
+source_profile;
+execute_spring_jar org.onap.aai.GraphGeneratorTool ${PROJECT_HOME}/resources/logback.xml "$@"
+end_date;
+exit 0
@@ -0,0 +1,117 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.aai.dbmap.AAIGraph;
+import org.onap.aai.rest.BulkProcessConsumer;
+
+public class BulkLoadToolTest extends AAISetup {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void filesAreOrderedLikeLsV() {
+        List<File> files = new ArrayList<>(Arrays.asList(new File("cloudRegion-10.json"),
+                new File("cloudRegion-2.json"), new File("cloudRegion-1.json"), new File("complex-1.json")));
+
+        files.sort(BulkLoadTool.versionOrder());
+
+        assertEquals(Arrays.asList("cloudRegion-1.json", "cloudRegion-2.json", "cloudRegion-10.json",
+                "complex-1.json"), files.stream().map(File::getName).toList());
+    }
+
+    @Test
+    public void eachFileIsLoadedAndItsResultsWritten() throws IOException, InterruptedException {
+        if (!AAIGraph.isInit()) {
+            AAIGraph.getInstance();
+        }
+        Path input = Files.createDirectory(tempDir.resolve("input"));
+        Path output = tempDir.resolve("output");
+        String payload = getPayload("payloads/bulk/pserver-transactions.json");
+        Files.write(input.resolve("pserver-1.json"),
+                payload.replaceAll("<UUID>", UUID.randomUUID().toString()).getBytes(StandardCharsets.UTF_8));
+        Files.write(input.resolve("pserver-2.json"), "{\"transactions\": [".getBytes(StandardCharsets.UTF_8));
+
+        BulkLoadArgs cArgs = new BulkLoadArgs();
+        cArgs.inputFolder = input.toString();
+        cArgs.outputFolder = output.toString();
+        cArgs.fromAppId = "JUNIT-BulkLoadToolTest";
+        cArgs.threads = "2";
+        cArgs.batchSize = "2";
+        new BulkLoadTool(new BulkProcessConsumer(), schemaVersions.getDefaultVersion()).run(cArgs);
+
+        File[] results = output.toFile().listFiles();
+        assertEquals(2, results.length);
+        Arrays.sort(results);
+        assertTrue(results[0].getName().startsWith("pserver-1.") && results[0].getName().endsWith(".results.json"));
+        String loaded = Files.readString(results[0].toPath());
+        assertEquals(3, StringUtils.countMatches(loaded, "{\"201\":null}"), "Contains 3 {\"201\":null}");
+        assertTrue(Files.readString(results[1].toPath()).contains("requestError"), "Broken file reports an error");
+    }
+
+    @Test
+    public void failedBatchIsRetriedTransactionByTransaction() throws IOException, InterruptedException {
+        if (!AAIGraph.isInit()) {
+            AAIGraph.getInstance();
+        }
+        Path input = Files.createDirectory(tempDir.resolve("input"));
+        Path output = tempDir.resolve("output");
+        String uuid = UUID.randomUUID().toString();
+        String payload = getPayload("payloads/bulk/pserver-bulk-process-transactions.json");
+        Files.write(input.resolve("pserver-1.json"),
+                payload.replaceAll("<UUID>", uuid).getBytes(StandardCharsets.UTF_8));
+
+        BulkLoadArgs cArgs = new BulkLoadArgs();
+        cArgs.inputFolder = input.toString();
+        cArgs.outputFolder = output.toString();
+        cArgs.fromAppId = "JUNIT-BulkLoadToolTest";
+        cArgs.threads = "1";
+        cArgs.batchSize = "2";
+        new BulkLoadTool(new BulkProcessConsumer(), schemaVersions.getDefaultVersion()).run(cArgs);
+
+        // the delete of the missing pserver fails the batch, so the put is executed again on its own
+        String loaded = Files.readString(output.toFile().listFiles()[0].toPath());
+        assertEquals(1, StringUtils.countMatches(loaded, "{\"201\":null}"), "Contains 1 {\"201\":null}");
+        assertEquals(1, StringUtils.countMatches(loaded, "ERR.5.4.6114"), "Contains 1 ERR.5.4.6114");
+        assertTrue(loaded.indexOf("{\"201\":null}") < loaded.indexOf("ERR.5.4.6114"),
+                "Results are in the order of the transactions");
+        assertEquals(Long.valueOf(1L), AAIGraph.getInstance().getGraph().newTransaction().traversal().V()
+                .has("hostname", "pserver-bulk-process-transactions-1-" + uuid).count().next(),
+                "The put of the retried batch is stored once");
+    }
+}
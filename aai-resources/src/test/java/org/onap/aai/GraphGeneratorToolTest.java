@@ -0,0 +1,94 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.db.props.AAIProperties;
+import org.onap.aai.dbmap.AAIGraph;
+import org.onap.aai.serialization.db.EdgeSerializer;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class GraphGeneratorToolTest extends AAISetup {
+
+    @Autowired
+    EdgeSerializer edgeSerializer;
+
+    @Test
+    public void generateTreesWithCousins() throws Exception {
+        JanusGraph janusGraph = AAIGraph.getInstance().getGraph();
+        String[] args = {"-tree", "cloud-region:2,tenant:2,vserver:3", "-tree", "pserver:4", "-cousin",
+                "vserver:pserver:2", "-prefix", "gentest", "-threads", "3", "-batchSize", "4"};
+
+        new GraphGeneratorTool(loaderFactory, schemaVersions, edgeSerializer).run(janusGraph, args);
+
+        JanusGraphTransaction transaction = janusGraph.newTransaction();
+        try {
+            GraphTraversalSource g = transaction.traversal();
+            assertEquals(Long.valueOf(2L),
+                    g.V().has("cloud-region-id", TextP.startingWith("gentest-")).count().next());
+            assertEquals(Long.valueOf(12L), g.V().has("vserver-id", TextP.startingWith("gentest-")).count().next());
+            assertEquals(Long.valueOf(3L), g.V().has("vserver-id", "gentest-vserver-5").both().count().next());
+            assertEquals("/cloud-infrastructure/cloud-regions/cloud-region/gentest-cloud-region-0/gentest-cloud-region-0"
+                    + "/tenants/tenant/gentest-tenant-1/vservers/vserver/gentest-vserver-5",
+                    g.V().has("vserver-id", "gentest-vserver-5").values(AAIProperties.AAI_URI).next());
+            assertEquals(Long.valueOf(0L), g.V().has("vserver-id", TextP.startingWith("gentest-"))
+                    .hasNot(AAIProperties.AAI_UUID).count().next());
+        } finally {
+            transaction.rollback();
+        }
+    }
+
+    @Test
+    public void sameSeedGeneratesSameGraph() throws Exception {
+        JanusGraph janusGraph = AAIGraph.getInstance().getGraph();
+        GraphGeneratorTool tool = new GraphGeneratorTool(loaderFactory, schemaVersions, edgeSerializer);
+        tool.run(janusGraph, new String[] {"-tree", "pserver:3", "-prefix", "seeda", "-seed", "42"});
+        tool.run(janusGraph, new String[] {"-tree", "pserver:3", "-prefix", "seedb", "-seed", "42"});
+
+        assertEquals(inServiceValues(janusGraph, "seeda"), inServiceValues(janusGraph, "seedb"));
+    }
+
+    @Test
+    public void treeHasToStartWithTopLevelNode() {
+        GraphGeneratorTool tool = new GraphGeneratorTool(loaderFactory, schemaVersions, edgeSerializer);
+        assertThrows(IllegalArgumentException.class,
+                () -> tool.run(AAIGraph.getInstance().getGraph(), new String[] {"-tree", "tenant:2"}));
+    }
+
+    private List<Object> inServiceValues(JanusGraph janusGraph, String prefix) {
+        JanusGraphTransaction transaction = janusGraph.newTransaction();
+        try {
+            return transaction.traversal().V().has("hostname", TextP.startingWith(prefix + "-")).order()
+                    .by("hostname").values("in-maint").toList();
+        } finally {
+            transaction.rollback();
+        }
+    }
+}
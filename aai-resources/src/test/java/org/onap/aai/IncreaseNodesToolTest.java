@@ -20,6 +20,7 @@
 
 package org.onap.aai;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
@@ -77,6 +78,23 @@ public class IncreaseNodesToolTest extends AAISetup {
         Mockito.verify(graphTraversalSource, times(5)).addV(nodeTypeCapture.capture());
     }
 
+    @Test
+    public void addVertexInBatches() throws Exception {
+
+        when(janusGraph.newTransaction()).thenReturn(janusGraphtransaction);
+        when(janusGraphtransaction.traversal()).thenReturn(graphTraversalSource);
+        when(graphTraversalSource.addV(nodeTypeCapture.capture())).thenReturn(graphTraversalVertex);
+        when(graphTraversalVertex.next()).thenReturn(mockVertex);
+        String[] batchArgs = {"-numberOfNodes", "5", "-nodeType", "pserver", "-uri",
+                "/cloud-infrastructure/pservers/pserver/", "-child", "false", "-batchSize", "2", "-threads", "2",
+                "-quiet", "true"};
+        increaseNodesTool.run(janusGraph, batchArgs);
+
+        Mockito.verify(janusGraph, times(3)).newTransaction();
+        Mockito.verify(janusGraphtransaction, times(3)).commit();
+        Mockito.verify(graphTraversalSource, times(5)).addV(nodeTypeCapture.capture());
+    }
+
     @Test
     public void addVertexfFail() throws Exception {
 
@@ -88,4 +106,18 @@ public class IncreaseNodesToolTest extends AAISetup {
         Mockito.verify(janusGraphtransaction).rollback();
     }
 
+    @Test
+    public void failedWriterThreadFailsTheRun() throws Exception {
+
+        when(janusGraph.newTransaction()).thenReturn(janusGraphtransaction);
+        when(janusGraphtransaction.traversal()).thenReturn(graphTraversalSource);
+        when(graphTraversalSource.addV(nodeTypeCapture.capture())).thenReturn(graphTraversalVertex);
+        when(graphTraversalVertex.next()).thenReturn(mockVertex);
+        Mockito.doThrow(new IllegalStateException("commit failed")).when(janusGraphtransaction).commit();
+        String[] threadArgs = {"-numberOfNodes", "4", "-nodeType", "pserver", "-uri",
+                "/cloud-infrastructure/pservers/pserver/", "-child", "false", "-threads", "2", "-quiet", "true"};
+
+        assertThrows(IllegalStateException.class, () -> increaseNodesTool.run(janusGraph, threadArgs));
+    }
+
 }
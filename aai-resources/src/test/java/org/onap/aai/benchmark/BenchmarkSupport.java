@@ -0,0 +1,100 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.onap.aai.config.ConfigConfiguration;
+import org.onap.aai.config.IntrospectionConfig;
+import org.onap.aai.config.SpringContextAware;
+import org.onap.aai.edges.EdgeIngestor;
+import org.onap.aai.introspection.LoaderFactory;
+import org.onap.aai.nodes.NodeIngestor;
+import org.onap.aai.setup.AAIConfigTranslator;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Shared setup of the JMH benchmarks: the schema context of the unit tests, the test payloads and
+ * Jersey requests that can be passed through the request filters.
+ */
+public final class BenchmarkSupport {
+
+    public static final URI BASE_URI = URI.create("http://localhost:8447/aai/");
+
+    private static final ResourceConfig CONFIGURATION = new ResourceConfig();
+
+    private BenchmarkSupport() {}
+
+    /**
+     * Starts the schema context the same way as AAISetup, the caller closes it in its tear down.
+     */
+    public static AnnotationConfigApplicationContext startSchemaContext() {
+        System.setProperty("AJSC_HOME", "./");
+        System.setProperty("BUNDLECONFIG_DIR", "src/main/resources/");
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("schema.uri.base.path", "/aai");
+        properties.put("schema.ingest.file", "src/test/resources/application-test.properties");
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        context.register(ConfigConfiguration.class, AAIConfigTranslator.class, NodeIngestor.class,
+                EdgeIngestor.class, SpringContextAware.class, IntrospectionConfig.class, LoaderFactory.class);
+        context.refresh();
+        return context;
+    }
+
+    public static String getPayload(String filename) throws IOException {
+        try (InputStream inputStream = BenchmarkSupport.class.getClassLoader().getResourceAsStream(filename)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the " + filename + " in src/test/resources");
+            }
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Creates a request as the Jersey container passes it to the pre matching filters.
+     *
+     * @param path the path below the base uri, e.g. v29/cloud-infrastructure/pservers/pserver/host
+     */
+    public static ContainerRequest newRequest(String method, String path, Map<String, String> headers,
+            String payload) {
+        ContainerRequest request = new ContainerRequest(BASE_URI, BASE_URI.resolve(path), method, null,
+                new MapPropertiesDelegate(), CONFIGURATION);
+        headers.forEach(request::header);
+        if (payload != null) {
+            request.setEntityStream(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)));
+        }
+        return request;
+    }
+}
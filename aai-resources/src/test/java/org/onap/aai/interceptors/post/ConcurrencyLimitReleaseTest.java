@@ -0,0 +1,106 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.interceptors.AAIHeaderProperties;
+import org.onap.aai.interceptors.pre.ConcurrencyLimitInterceptor;
+import org.onap.aai.service.ConcurrencyLimitService;
+
+class ConcurrencyLimitReleaseTest {
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private final ContainerRequestContext requestContext = mock(ContainerRequestContext.class, RETURNS_DEEP_STUBS);
+    private final ContainerResponseContext responseContext = mock(ContainerResponseContext.class);
+    private final ConcurrencyLimitService.Permit permit = mock(ConcurrencyLimitService.Permit.class);
+
+    @BeforeEach
+    void setUp() throws AAIException {
+        when(requestContext.getProperty(anyString())).thenAnswer(i -> properties.get(i.getArgument(0)));
+        doAnswer(i -> properties.put(i.getArgument(0), i.getArgument(1))).when(requestContext)
+                .setProperty(anyString(), any());
+        when(requestContext.getUriInfo().getPath()).thenReturn("v29/cloud-infrastructure/pservers");
+        when(requestContext.getHeaderString(AAIHeaderProperties.FROM_APP_ID)).thenReturn("JUNIT");
+        ConcurrencyLimitService service = mock(ConcurrencyLimitService.class);
+        when(service.acquire("JUNIT")).thenReturn(permit);
+        new ConcurrencyLimitInterceptor(service).filter(requestContext);
+        when(responseContext.getStatus()).thenReturn(200);
+    }
+
+    @Test
+    void responseRecordsItsStatusOnThePermit() throws IOException {
+        new ConcurrencyLimitRelease().filter(requestContext, responseContext);
+
+        verify(permit).setStatus(200);
+        verify(permit, never()).release();
+    }
+
+    @Test
+    void permitIsReleasedWithItsStatusWhenTheRequestFinishes() throws IOException {
+        new ConcurrencyLimitRelease().filter(requestContext, responseContext);
+        finish();
+
+        InOrder order = inOrder(permit);
+        order.verify(permit).setStatus(200);
+        order.verify(permit).release();
+    }
+
+    @Test
+    void permitIsReleasedWhenTheResponseFiltersNeverRan() {
+        // e.g. an exception that no mapper handles skips the response filters
+        finish();
+
+        verify(permit, never()).setStatus(anyInt());
+        verify(permit).release();
+    }
+
+    private void finish() {
+        ContainerRequest request = mock(ContainerRequest.class);
+        when(request.getProperty(anyString())).thenAnswer(i -> properties.get(i.getArgument(0)));
+        RequestEvent event = mock(RequestEvent.class);
+        when(event.getType()).thenReturn(RequestEvent.Type.FINISHED);
+        when(event.getContainerRequest()).thenReturn(request);
+        new RequestCompletionListener().onRequest(event).onEvent(event);
+    }
+}
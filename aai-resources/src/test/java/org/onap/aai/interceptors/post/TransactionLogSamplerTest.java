@@ -0,0 +1,83 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.onap.aai.util.ResourcesConfig;
+
+class TransactionLogSamplerTest {
+
+    private static ResourcesConfig config(String rate, String sources, String errors) {
+        Map<String, String> values = Map.of(ResourcesConfig.TRANSACTION_LOGGING_SAMPLE_RATE, rate,
+                ResourcesConfig.TRANSACTION_LOGGING_SAMPLE_SOURCES, sources,
+                ResourcesConfig.TRANSACTION_LOGGING_SAMPLE_ERRORS, errors);
+        return ResourcesConfig.from((key, defaultValue) -> values.getOrDefault(key, defaultValue));
+    }
+
+    @Test
+    void errorsAreAlwaysSampled() {
+        ResourcesConfig config = config("0", "SO:0", "true");
+
+        assertFalse(TransactionLogSampler.isSampled(config, 200, "SO"));
+        assertFalse(TransactionLogSampler.isSampled(config, 201, "robot"));
+        assertTrue(TransactionLogSampler.isSampled(config, 404, "SO"));
+        assertTrue(TransactionLogSampler.isSampled(config, 500, null));
+    }
+
+    @Test
+    void sourceRatesOverrideTheRate() {
+        ResourcesConfig config = config("0", "SO:1, robot:0", "false");
+
+        assertTrue(TransactionLogSampler.isSampled(config, 200, "SO"));
+        assertFalse(TransactionLogSampler.isSampled(config, 200, "robot"));
+        assertFalse(TransactionLogSampler.isSampled(config, 200, "other"));
+        assertFalse(TransactionLogSampler.isSampled(config, 500, "robot"));
+    }
+
+    @Test
+    void invalidRatesLogEverything() {
+        ResourcesConfig config = config("half", "SO", "true");
+
+        assertTrue(TransactionLogSampler.isSampled(config, 200, "SO"));
+    }
+
+    @Test
+    void responseEntityIsTruncated() {
+        assertNull(TransactionLogEvent.truncate("short", 100));
+        assertEquals("abcd", TransactionLogEvent.truncate("abcdefgh", 4));
+        assertEquals("ab", TransactionLogEvent.truncate("abécd", 3));
+        assertEquals("a", TransactionLogEvent.truncate("a😀b", 4));
+
+        String response = new TransactionLogEvent.Response("id", "application/json", 200, new MultivaluedHashMap<>(),
+                "{\"hostname\":\"pserver-1\"}", 10).toString();
+        assertTrue(response.contains("\"Entity\":\"{\\\"hostname\""));
+        assertTrue(response.contains("\"Entity-Truncated\":true"));
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.onap.aai.interceptors.post.TransactionLogWriter.OverflowPolicy;
+import org.slf4j.Logger;
+
+class TransactionLogWriterTest {
+
+    @Test
+    void writesEntriesInTheBackground() {
+        Logger logger = mock(Logger.class);
+        TransactionLogWriter writer = new TransactionLogWriter(logger, 10, 2, OverflowPolicy.DROP);
+
+        for (int i = 0; i < 5; i++) {
+            writer.log(event("tx-" + i));
+        }
+
+        ArgumentCaptor<String> entries = ArgumentCaptor.forClass(String.class);
+        verify(logger, timeout(5000).times(5)).debug(entries.capture());
+        assertTrue(entries.getAllValues().get(0).contains("\"transactionId\":\"tx-0\""));
+        assertTrue(entries.getAllValues().get(4).contains("\"respBuf\""));
+        writer.shutdown();
+        assertEquals(5, writer.getWritten());
+        assertEquals(0, writer.getDropped());
+    }
+
+    @Test
+    void dropsEntriesWhenTheQueueIsFull() {
+        Logger logger = mock(Logger.class);
+        TransactionLogWriter writer = new TransactionLogWriter(logger, 0, 2, OverflowPolicy.DROP);
+
+        writer.log(event("tx-1"));
+        writer.log(event("tx-2"));
+
+        assertEquals(2, writer.getDropped());
+        writer.shutdown();
+        verify(logger, times(0)).debug(anyString());
+    }
+
+    @Test
+    void callerWritesEntriesWhenTheQueueIsFull() {
+        Logger logger = mock(Logger.class);
+        TransactionLogWriter writer = new TransactionLogWriter(logger, 0, 2, OverflowPolicy.CALLER);
+
+        writer.log(event("tx-1"));
+
+        verify(logger).debug(anyString());
+        assertEquals(0, writer.getDropped());
+        writer.shutdown();
+    }
+
+    private TransactionLogEvent event(String transId) {
+        return new TransactionLogEvent(transId, 201, "20260101T000000", "20260101T000001", "JUNIT",
+                "http://localhost/aai/v29/cloud-infrastructure/pservers/pserver/" + transId, "PUT",
+                "{\"ID\":\"" + transId + "\"}", new TransactionLogEvent.Response(transId, "application/json", 201,
+                        new MultivaluedHashMap<>(), null, -1));
+    }
+}
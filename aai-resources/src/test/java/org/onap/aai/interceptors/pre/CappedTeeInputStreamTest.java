@@ -0,0 +1,77 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.pre;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+class CappedTeeInputStreamTest {
+
+    private static final String PAYLOAD = "{\"hostname\":\"pserver-1\",\"fqdn\":\"pserver-1.example.com\"}";
+
+    @Test
+    void capturesWhatTheReaderReads() throws Exception {
+        CappedTeeInputStream in = tee(1024);
+        assertFalse(in.hasCaptured());
+
+        assertEquals(PAYLOAD, IOUtils.toString(in, StandardCharsets.UTF_8));
+        assertEquals(PAYLOAD, in.getCaptured());
+        assertFalse(in.isTruncated());
+    }
+
+    @Test
+    void capturesUpToMaxBytes() throws Exception {
+        CappedTeeInputStream in = tee(10);
+        in.read();
+
+        assertEquals(PAYLOAD, "{" + IOUtils.toString(in, StandardCharsets.UTF_8));
+        assertEquals(PAYLOAD.substring(0, 10), in.getCaptured());
+        assertTrue(in.isTruncated());
+    }
+
+    @Test
+    void requestIsRenderedWithCapturedPayload() throws Exception {
+        CappedTeeInputStream in = tee(1024);
+        MultivaluedHashMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.add("X-FromAppId", "JUNIT");
+        TransactionLogRequest request = new TransactionLogRequest("txId", "PUT", "application/json", headers, in);
+        IOUtils.toString(in, StandardCharsets.UTF_8);
+
+        String rendered = request.toString();
+        assertTrue(rendered.contains("\"ID\":\"txId\""));
+        assertTrue(rendered.contains("X-FromAppId"));
+        assertTrue(rendered.contains("pserver-1.example.com"));
+        assertFalse(rendered.contains("Payload-Truncated"));
+    }
+
+    private CappedTeeInputStream tee(int maxBytes) {
+        return new CappedTeeInputStream(new ByteArrayInputStream(PAYLOAD.getBytes(StandardCharsets.UTF_8)), maxBytes);
+    }
+}
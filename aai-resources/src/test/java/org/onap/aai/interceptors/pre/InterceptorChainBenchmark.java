@@ -0,0 +1,162 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.interceptors.pre;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.onap.aai.benchmark.BenchmarkSupport;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.service.RetiredService;
+import org.onap.aai.setup.SchemaVersions;
+import org.onap.aai.util.AAIConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * The pre matching filters of a request, each on its own and as a chain in priority order.
+ * Every invocation filters a new request, newRequestOnly measures the cost of creating it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+    @Param({"GET", "PUT"})
+    public String method;
+
+    private AnnotationConfigApplicationContext context;
+    private RequestTransactionLogging requestTransactionLogging;
+    private HeaderValidation headerValidation;
+    private RetiredInterceptor retiredInterceptor;
+    private VersionInterceptor versionInterceptor;
+    private Map<String, String> headers;
+    private String path;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, AAIException {
+        context = BenchmarkSupport.startSchemaContext();
+        AAIConfig.init();
+
+        requestTransactionLogging = new RequestTransactionLogging();
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setContentType("application/json");
+        ReflectionTestUtils.setField(requestTransactionLogging, "httpServletRequest", servletRequest);
+        headerValidation = new HeaderValidation();
+        retiredInterceptor = new RetiredInterceptor(retiredService(), "/aai");
+        versionInterceptor = new VersionInterceptor(context.getBean(SchemaVersions.class));
+
+        headers = new HashMap<>();
+        headers.put("Accept", "application/json");
+        headers.put("Content-Type", "application/json");
+        headers.put("X-FromAppId", "JUNIT");
+        headers.put("X-TransactionId", "JUNIT");
+        path = "v29/cloud-infrastructure/pservers/pserver/pserver-hostname-test";
+        payload = "PUT".equals(method) ? BenchmarkSupport.getPayload("payloads/resource/pserver.json") : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private RetiredService retiredService() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("retired.properties")) {
+            properties.load(in);
+        }
+        RetiredService retiredService = new RetiredService();
+        retiredService.setRetiredPatterns(properties.getProperty("retired.api.pattern.list"));
+        retiredService.setRetiredAllVersions(properties.getProperty("retired.api.all.versions"));
+        retiredService.initialize();
+        return retiredService;
+    }
+
+    private ContainerRequest newRequest() {
+        return BenchmarkSupport.newRequest(method, path, headers, payload);
+    }
+
+    @Benchmark
+    public ContainerRequest newRequestOnly() {
+        return newRequest();
+    }
+
+    @Benchmark
+    public ContainerRequest requestTransactionLogging() throws IOException {
+        ContainerRequest request = newRequest();
+        requestTransactionLogging.filter(request);
+        return request;
+    }
+
+    @Benchmark
+    public ContainerRequest headerValidation() throws IOException {
+        ContainerRequest request = newRequest();
+        headerValidation.filter(request);
+        return request;
+    }
+
+    @Benchmark
+    public ContainerRequest retiredInterceptor() throws IOException {
+        ContainerRequest request = newRequest();
+        retiredInterceptor.filter(request);
+        return request;
+    }
+
+    @Benchmark
+    public ContainerRequest versionInterceptor() {
+        ContainerRequest request = newRequest();
+        versionInterceptor.filter(request);
+        return request;
+    }
+
+    @Benchmark
+    public ContainerRequest chain() throws IOException {
+        ContainerRequest request = newRequest();
+        requestTransactionLogging.filter(request);
+        headerValidation.filter(request);
+        retiredInterceptor.filter(request);
+        versionInterceptor.filter(request);
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.it.performance;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * p50/p99 latencies in milliseconds and the throughput in requests per second of the benchmark scenarios,
+ * stored as json by scenario name.
+ */
+public class BenchmarkBaselines {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Map<String, Result> results;
+
+    public BenchmarkBaselines(Map<String, Result> results) {
+        this.results = new TreeMap<>(results);
+    }
+
+    public static BenchmarkBaselines read(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return new BenchmarkBaselines(new TreeMap<>());
+        }
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Map<String, Result> results = GSON.fromJson(reader, new TypeToken<Map<String, Result>>() {}.getType());
+            return new BenchmarkBaselines(results == null ? new TreeMap<>() : results);
+        }
+    }
+
+    public static Result parseResult(String json) {
+        return GSON.fromJson(json, Result.class);
+    }
+
+    public void write(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(results, writer);
+        }
+    }
+
+    public void put(String scenario, Result result) {
+        results.put(scenario, result);
+    }
+
+    public Result get(String scenario) {
+        return results.get(scenario);
+    }
+
+    /**
+     * Compares a result with the baseline of its scenario.
+     *
+     * @param threshold the allowed regression, 0.2 allows 20% higher latencies and 20% less throughput
+     * @return a description of every regression, empty when there is no baseline for the scenario
+     */
+    public List<String> regressions(String scenario, Result result, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        Result baseline = results.get(scenario);
+        if (baseline == null) {
+            return regressions;
+        }
+        if (baseline.p50 > 0 && result.p50 > baseline.p50 * (1 + threshold)) {
+            regressions.add(String.format("%s p50 %.2fms exceeds baseline %.2fms", scenario, result.p50,
+                    baseline.p50));
+        }
+        if (baseline.p99 > 0 && result.p99 > baseline.p99 * (1 + threshold)) {
+            regressions.add(String.format("%s p99 %.2fms exceeds baseline %.2fms", scenario, result.p99,
+                    baseline.p99));
+        }
+        if (baseline.throughput > 0 && result.throughput < baseline.throughput * (1 - threshold)) {
+            regressions.add(String.format("%s throughput %.2f/s is below baseline %.2f/s", scenario,
+                    result.throughput, baseline.throughput));
+        }
+        return regressions;
+    }
+
+    public static class Result {
+
+        double p50;
+        double p99;
+        double throughput;
+        double failedRate;
+
+        public Result() {}
+
+        public Result(double p50, double p99, double throughput) {
+            this.p50 = p50;
+            this.p99 = p99;
+            this.throughput = throughput;
+        }
+
+        public double getFailedRate() {
+            return failedRate;
+        }
+    }
+}
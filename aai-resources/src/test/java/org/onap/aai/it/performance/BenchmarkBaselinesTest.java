@@ -0,0 +1,65 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.it.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.aai.it.performance.BenchmarkBaselines.Result;
+
+public class BenchmarkBaselinesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void regressionsOutsideOfThreshold() {
+        BenchmarkBaselines baselines = new BenchmarkBaselines(new HashMap<>());
+        baselines.put("get-depth-1", new Result(10, 50, 100));
+
+        assertTrue(baselines.regressions("get-depth-1", new Result(11, 59, 81), 0.2).isEmpty());
+        List<String> regressions = baselines.regressions("get-depth-1", new Result(13, 61, 79), 0.2);
+        assertEquals(3, regressions.size());
+        assertTrue(baselines.regressions("bulk-process", new Result(1000, 1000, 1), 0.2).isEmpty());
+    }
+
+    @Test
+    public void writeAndReadBaselines() throws Exception {
+        BenchmarkBaselines baselines = new BenchmarkBaselines(new HashMap<>());
+        baselines.put("paginated-get",
+                BenchmarkBaselines.parseResult("{\"scenario\":\"paginated-get\",\"p50\":4.5,\"p99\":20,\"throughput\":300}"));
+        Path path = tempDir.resolve("baselines/results.json");
+        baselines.write(path);
+
+        Result result = BenchmarkBaselines.read(path).get("paginated-get");
+        assertEquals(4.5, result.p50);
+        assertEquals(20, result.p99);
+        assertEquals(300, result.throughput);
+        assertTrue(BenchmarkBaselines.read(tempDir.resolve("missing.json")).regressions("paginated-get",
+                result, 0.2).isEmpty());
+    }
+}
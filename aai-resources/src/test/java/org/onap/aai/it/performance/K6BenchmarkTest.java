@@ -0,0 +1,191 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.it.performance;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.janusgraph.core.JanusGraph;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.onap.aai.GraphGeneratorTool;
+import org.onap.aai.db.props.AAIProperties;
+import org.onap.aai.dbmap.AAIGraph;
+import org.onap.aai.introspection.LoaderFactory;
+import org.onap.aai.serialization.db.EdgeSerializer;
+import org.onap.aai.setup.SchemaVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.cassandra.CassandraAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.cassandra.CassandraDataAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.testcontainers.containers.output.WaitingConsumer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.k6.K6Container;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * Runs the k6/benchmark.js scenarios against a seeded graph and fails when a scenario regresses by more
+ * than aai.benchmark.threshold compared to the k6/benchmark-baselines.json of the test resources
+ * (or the file given by aai.benchmark.baselines).
+ * The results of a run are written to target/k6/benchmark-results.json (or the file given by
+ * aai.benchmark.results) and can be taken as the new baselines.
+ *
+ * Enabled by the benchmark profile: mvn test -Pbenchmark [-Daai.benchmark.vservers=100 ...]
+ *
+ * To compare the graph access limit with the plain jetty thread pool at high concurrency, run the suite
+ * with many virtual users without the limit first and then with it against those results:
+ * mvn test -Pbenchmark -Daai.benchmark.vus=400 -Daai.benchmark.threshold=0
+ * mvn test -Pbenchmark -Daai.benchmark.vus=400 -Daai.benchmark.threshold=0 -Daai.graph.access.enabled=true
+ *     -Daai.benchmark.baselines=target/k6/benchmark-results.json
+ *     -Daai.benchmark.results=target/k6/benchmark-results-graph-access.json
+ * The second run reports every scenario in which the limit is slower.
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@EnableAutoConfiguration(exclude={CassandraDataAutoConfiguration.class, CassandraAutoConfiguration.class}) // there is no running cassandra instance for the test
+@EnabledIfSystemProperty(named = "aai.benchmark", matches = "true")
+public class K6BenchmarkTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(K6BenchmarkTest.class);
+  private static final String RESULT_MARKER = "BENCHMARK_RESULT ";
+  private static final String API_VERSION = "v32";
+
+  private static final int nCloudRegions = Integer.getInteger("aai.benchmark.cloudRegions", 2);
+  private static final int nTenants = Integer.getInteger("aai.benchmark.tenants", 5);
+  private static final int nVservers = Integer.getInteger("aai.benchmark.vservers", 10);
+  private static final int nInterfaces = Integer.getInteger("aai.benchmark.interfaces", 2);
+  private static final int nPservers = Integer.getInteger("aai.benchmark.pservers", 100);
+  private static final int vus = Integer.getInteger("aai.benchmark.vus", 3);
+  private static final int testDuration = Integer.getInteger("aai.benchmark.durationSeconds", 30);
+  private static final double threshold = Double.parseDouble(System.getProperty("aai.benchmark.threshold", "0.2"));
+
+  private static final BenchmarkBaselines results = new BenchmarkBaselines(new HashMap<>());
+  private static boolean seeded = false;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private LoaderFactory loaderFactory;
+
+  @Autowired
+  private SchemaVersions schemaVersions;
+
+  @Autowired
+  private EdgeSerializer edgeSerializer;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    if (!seeded) {
+      long startTime = System.currentTimeMillis();
+      logger.info("Seeding the benchmark graph");
+      new GraphGeneratorTool(loaderFactory, schemaVersions, edgeSerializer).run(AAIGraph.getInstance().getGraph(),
+          new String[] {"-tree",
+              "cloud-region:" + nCloudRegions + ",tenant:" + nTenants + ",vserver:" + nVservers + ",l-interface:"
+                  + nInterfaces,
+              "-tree", "pserver:" + nPservers, "-cousin", "vserver:pserver:1", "-prefix", "bench", "-threads", "4",
+              "-version", API_VERSION});
+      seeded = true;
+      logger.info("Seeded the benchmark graph in {} seconds", (System.currentTimeMillis() - startTime) / 1000);
+    }
+  }
+
+  @AfterAll
+  public static void cleanup() throws Exception {
+    results.write(Paths.get(System.getProperty("aai.benchmark.results", "target/k6/benchmark-results.json")));
+    JanusGraph graph = AAIGraph.getInstance().getGraph();
+    graph.traversal().V().has(AAIProperties.SOURCE_OF_TRUTH, P.within("GraphGeneratorTool", "k6")).drop().iterate();
+    graph.tx().commit();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"get-depth-1", "get-depth-2", "get-depth-3", "get-depth-4", "paginated-get",
+      "put-patch-delete", "relationship-put", "bulk-single-transaction", "bulk-process"})
+  public void benchmark(String scenario) throws Exception {
+    K6Container container = new K6Container("grafana/k6:0.49.0")
+        .withNetworkMode("host")
+        .withAccessToHost(true)
+        .withTestScript(MountableFile.forClasspathResource("k6/benchmark.js"))
+        .withScriptVar("API_PORT", String.valueOf(port))
+        .withScriptVar("API_VERSION", API_VERSION)
+        .withScriptVar("SCENARIO", scenario)
+        .withScriptVar("VUS", String.valueOf(vus))
+        .withScriptVar("DURATION_SECONDS", String.valueOf(testDuration))
+        .withScriptVar("N_CLOUD_REGIONS", String.valueOf(nCloudRegions))
+        .withScriptVar("N_TENANTS", String.valueOf(nTenants))
+        .withScriptVar("N_VSERVERS", String.valueOf(nVservers))
+        .withScriptVar("N_INTERFACES", String.valueOf(nInterfaces))
+        .withScriptVar("N_PSERVERS", String.valueOf(nPservers))
+        .withCmdOptions("--quiet", "--no-usage-report");
+    container.start();
+
+    WaitingConsumer consumer = new WaitingConsumer();
+    container.followOutput(consumer);
+
+    // Wait for the summary of the test script
+    try {
+      consumer.waitUntil(
+          frame -> frame.getUtf8String().contains(RESULT_MARKER),
+          testDuration + 60,
+          TimeUnit.SECONDS);
+    } catch (Exception e) {
+      logger.error(container.getLogs());
+    }
+
+    String report = container.getLogs();
+    container.stop();
+    int start = report.indexOf(RESULT_MARKER);
+    assertTrue(start >= 0, "no benchmark result in the k6 output: " + report);
+    int end = report.indexOf('\n', start);
+    String json = report.substring(start + RESULT_MARKER.length(), end < 0 ? report.length() : end);
+    logger.info("Benchmark result {}", json);
+
+    BenchmarkBaselines.Result result = BenchmarkBaselines.parseResult(json);
+    assertNotNull(result);
+    assertTrue(result.getFailedRate() < 0.01, scenario + " failed " + result.getFailedRate() * 100 + "% of the requests");
+    results.put(scenario, result);
+
+    List<String> regressions = baselines().regressions(scenario, result, threshold);
+    assertTrue(regressions.isEmpty(), String.join(", ", regressions));
+  }
+
+  private static BenchmarkBaselines baselines() throws Exception {
+    String baselines = System.getProperty("aai.benchmark.baselines");
+    Path path = baselines != null ? Paths.get(baselines)
+        : Paths.get(K6BenchmarkTest.class.getClassLoader().getResource("k6/benchmark-baselines.json").toURI());
+    return BenchmarkBaselines.read(path);
+  }
+}
@@ -22,17 +22,26 @@ package org.onap.aai.rest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import org.apache.commons.lang3.StringUtils;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
 import org.onap.aai.dbmap.AAIGraph;
 import org.onap.aai.service.ResourcesService;
+import org.onap.aai.util.AAIConfig;
+import org.onap.aai.util.ResourcesConfig;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +88,49 @@ public class BulkProcessConsumerTest extends BulkProcessorTestAbstraction {
                 "Contains 1 ERR.5.4.6114");
     }
 
+    @Test
+    public void bulkProcessPayloadConcurrentlyKeepsTransactionOrderTest() throws IOException {
+
+        when(uriInfo.getPath()).thenReturn(uri);
+        when(uriInfo.getPath(false)).thenReturn(uri);
+        headersMultiMap.add("X-Bulk-Concurrency", "2");
+        ResourcesConfig parallel = ResourcesConfig.from((key, defaultValue) -> ResourcesConfig.BULK_PARALLEL_ENABLED
+                .equals(key) ? "true" : AAIConfig.get(key, defaultValue));
+
+        String payload = getBulkPayload("pserver-bulk-process-transactions");
+        Response response;
+        try (MockedStatic<ResourcesConfig> config = mockStatic(ResourcesConfig.class, CALLS_REAL_METHODS)) {
+            config.when(ResourcesConfig::current).thenReturn(parallel);
+            response = executeRequest(payload);
+        }
+
+        String entity = response.getEntity().toString();
+        assertEquals(Response.Status.CREATED.getStatusCode(), response.getStatus(), "Valid Response Code");
+        assertEquals(1, StringUtils.countMatches(entity, "{\"201\":null}"), "Contains 1 {\"201\":null}");
+        assertEquals(1, StringUtils.countMatches(entity, "ERR.5.4.6114"), "Contains 1 ERR.5.4.6114");
+        assertTrue(entity.indexOf("{\"201\":null}") < entity.indexOf("ERR.5.4.6114"),
+                "Responses are in the order of the transactions");
+    }
+
+    @Test
+    public void bulkProcessPayloadStreamingResponseTest() throws IOException {
+
+        when(uriInfo.getPath()).thenReturn(uri);
+        when(uriInfo.getPath(false)).thenReturn(uri);
+        headersMultiMap.add("X-Bulk-Streaming", "true");
+
+        String payload = getBulkPayload("pserver-bulk-process-transactions");
+        Response response = executeRequest(payload);
+
+        assertEquals(Response.Status.CREATED.getStatusCode(), response.getStatus(), "Valid Response Code");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        String entity = out.toString(StandardCharsets.UTF_8);
+        assertEquals(1, StringUtils.countMatches(entity, "{\"201\":null}"), "Contains 1 {\"201\":null}");
+        assertEquals(1, StringUtils.countMatches(entity, "ERR.5.4.6114"), "Contains 1 ERR.5.4.6114");
+        assertTrue(entity.startsWith("{\"transaction\":[{\"put\":"), "Response keeps the bulk format");
+    }
+
     @Test
     public void bulkProcessPayloadWithPatchTest() throws IOException {
 
@@ -21,11 +21,15 @@
 package org.onap.aai.rest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -178,4 +182,29 @@ public class URLFromVertexIdConsumerTest extends AAISetup {
 
         assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
     }
+
+    @Test
+    public void testBatchOfVertexIdsReturnsUrlsOfExistingVertices() throws JSONException, IOException, AAIException {
+
+        String uri = "cloud-infrastructure/pservers/pserver/" + UUID.randomUUID().toString();
+
+        when(uriInfo.getPath()).thenReturn(uri);
+        when(uriInfo.getPath(false)).thenReturn(uri);
+
+        MockHttpServletRequest mockReq = new MockHttpServletRequest("PUT", uri);
+        Response response = resourcesController.update("{}", schemaVersions.getDefaultVersion().toString(), uri,
+                httpHeaders, uriInfo, mockReq);
+        assertEquals(Response.Status.CREATED.getStatusCode(), response.getStatus());
+        String vertexId = response.getMetadata().get("vertex-id").get(0).toString();
+
+        MockHttpServletRequest mockReqPost = new MockHttpServletRequest("POST", uri);
+        response = urlFromVertexIdConsumer.generateUrlsFromVertexIds("{\"ids\": [" + vertexId + ", 384584]}",
+                schemaVersions.getDefaultVersion().toString(), httpHeaders, uriInfo, mockReqPost);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        JsonObject urls = JsonParser.parseString(response.getEntity().toString()).getAsJsonObject()
+                .getAsJsonObject("urls");
+        assertTrue(urls.get(vertexId).getAsString().endsWith(uri), "Url of the pserver is returned");
+        assertFalse(urls.has("384584"), "Unknown vertex id is left out");
+    }
 }
@@ -21,11 +21,15 @@
 package org.onap.aai.rest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -40,6 +44,7 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
+import org.janusgraph.core.JanusGraph;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -163,4 +168,37 @@ public class VertexIdConsumerTest extends AAISetup {
 
         System.out.println(pserverObject);
     }
+
+    @Test
+    public void testBatchOfVertexIdsReturnsObjectsOfExistingVertices() throws JSONException, IOException, AAIException {
+
+        String hostname = UUID.randomUUID().toString();
+        String uri = "cloud-infrastructure/pservers/pserver/" + hostname;
+
+        when(uriInfo.getPath()).thenReturn(uri);
+        when(uriInfo.getPath(false)).thenReturn(uri);
+
+        MockHttpServletRequest mockReq = new MockHttpServletRequest("PUT", uri);
+        Response response = resourcesController.update("{}", schemaVersions.getDefaultVersion().toString(), uri,
+                httpHeaders, uriInfo, mockReq);
+        assertEquals(Response.Status.CREATED.getStatusCode(), response.getStatus());
+        String vertexId = response.getMetadata().get("vertex-id").get(0).toString();
+
+        JanusGraph graph = AAIGraph.getInstance().getGraph();
+        Object unknownTypeId = graph.addVertex("aai-node-type", "not-a-node-type").id();
+        graph.tx().commit();
+
+        MockHttpServletRequest mockReqPost = new MockHttpServletRequest("POST", uri);
+        response = vertexIdConsumer.getByVertexIds(
+                "{\"ids\": [" + unknownTypeId + ", " + vertexId + ", 384584]}",
+                schemaVersions.getDefaultVersion().toString(), httpHeaders, uriInfo, mockReqPost);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        JsonObject objects = JsonParser.parseString(response.getEntity().toString()).getAsJsonObject()
+                .getAsJsonObject("objects");
+        assertEquals(hostname, objects.getAsJsonObject(vertexId).getAsJsonObject("pserver").get("hostname")
+                .getAsString(), "Pserver is returned by its vertex id");
+        assertFalse(objects.has("384584"), "Unknown vertex id is left out");
+        assertFalse(objects.has(unknownTypeId.toString()), "Vertex that is not an object is left out");
+    }
 }
@@ -0,0 +1,129 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2017-2018 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.rest.BulkConsumer;
+import org.onap.aai.rest.BulkProcessorTestAbstraction;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class BulkReadConsumerTest extends BulkProcessorTestAbstraction {
+
+    private BulkReadConsumer bulkReadConsumer = new BulkReadConsumer("/aai");
+
+    @BeforeEach
+    public void before() {
+        when(uriInfo.getPath()).thenReturn(uri);
+        when(uriInfo.getPath(false)).thenReturn(uri);
+    }
+
+    @Test
+    public void readExistingAndMissingPserver() throws IOException {
+
+        String put = getBulkPayload("single-transaction/put-patch-same-pserver").replaceAll("<methodName>",
+                "bulk-read");
+        MockHttpServletRequest mockReq = new MockHttpServletRequest(HttpMethod.POST, "http://www.test.com");
+        Response created = new BulkSingleTransactionConsumer("/aai").process(put,
+                schemaVersions.getDefaultVersion().toString(), httpHeaders, uriInfo, mockReq);
+        assertEquals(Response.Status.CREATED.getStatusCode(), created.getStatus(), "Pserver is created");
+
+        String payload = "{'uris':['/aai/" + schemaVersions.getDefaultVersion().toString()
+                + "/cloud-infrastructure/pservers/pserver/pserver-bulk-read',"
+                + "'/cloud-infrastructure/pservers/pserver/pserver-bulk-read-missing']}";
+        Response response = executeRequest(payload);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus(), "Request success");
+        JsonArray responses = JsonParser.parseString(readEntity(response)).getAsJsonObject()
+                .getAsJsonArray("operation-responses");
+        assertEquals(2, responses.size(), "One response per uri");
+
+        JsonObject existing = responses.get(0).getAsJsonObject();
+        assertEquals("get", existing.get("action").getAsString());
+        assertEquals(200, existing.get("response-status-code").getAsInt());
+        assertEquals("patched-fqdn", existing.getAsJsonObject("response-body").get("fqdn").getAsString());
+        JsonObject missing = responses.get(1).getAsJsonObject();
+        assertEquals(404, missing.get("response-status-code").getAsInt());
+        assertTrue(missing.get("response-body").isJsonObject(), "Error body is raw json");
+        assertTrue(missing.getAsJsonObject("response-body").has("requestError"));
+    }
+
+    @Test
+    public void noUris() {
+
+        Response response = executeRequest("{'uris':[]}");
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus(), "Request fails with 400");
+        assertThat("Response contains invalid payload msg.", response.getEntity().toString(),
+                containsString("Payload has no uris to read"));
+    }
+
+    @Test
+    public void invalidJson() {
+
+        Response response = executeRequest("{]}");
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus(), "Request fails with 400");
+        assertThat("Response contains invalid payload msg.", response.getEntity().toString(),
+                containsString("JSON processing error:Input payload does not follow bulk/read interface"));
+    }
+
+    private String readEntity(Response response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    protected Response executeRequest(String finalPayload) {
+        MockHttpServletRequest mockReq = new MockHttpServletRequest(HttpMethod.POST, "http://www.test.com");
+
+        return bulkReadConsumer.process(finalPayload, schemaVersions.getDefaultVersion().toString(), httpHeaders,
+                uriInfo, mockReq);
+    }
+
+    @Override
+    protected BulkConsumer getConsumer() {
+        return null;
+    }
+
+    @Override
+    protected String getUri() {
+        return "/aai/" + schemaVersions.getDefaultVersion().toString() + "/bulk/read";
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.JsonElement;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.onap.aai.exceptions.AAIException;
+
+public class BulkTransactionReaderTest {
+
+    @Test
+    public void readsTransactionsOneAtATime() throws AAIException, IOException {
+        String payload = "{\"other\": {\"ignored\": [1, 2]}, \"transactions\": ["
+                + "{\"put\": [{\"uri\": \"/a\", \"body\": {}}]}, {\"delete\": [{\"uri\": \"/b\"}]}], \"trailing\": 1}";
+
+        try (BulkTransactionReader reader = new BulkTransactionReader(toStream(payload), "bulk process")) {
+            JsonElement first = reader.next();
+            assertEquals("/a", first.getAsJsonObject().getAsJsonArray("put").get(0).getAsJsonObject()
+                    .get("uri").getAsString());
+            JsonElement second = reader.next();
+            assertEquals("/b", second.getAsJsonObject().getAsJsonArray("delete").get(0).getAsJsonObject()
+                    .get("uri").getAsString());
+            assertNull(reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void emptyTransactionsArrayHasNoTransactions() throws AAIException, IOException {
+        try (BulkTransactionReader reader = new BulkTransactionReader(toStream("{\"transactions\": []}"),
+                "bulk process")) {
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void transactionsAreReadUntilThePayloadBreaksOff() throws AAIException, IOException {
+        String payload = "{\"transactions\": [{\"put\": []}, {\"put\": [";
+
+        try (BulkTransactionReader reader = new BulkTransactionReader(toStream(payload), "bulk process")) {
+            assertEquals(0, reader.next().getAsJsonObject().getAsJsonArray("put").size());
+            assertThrows(RuntimeException.class, reader::next);
+        }
+    }
+
+    private InputStream toStream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
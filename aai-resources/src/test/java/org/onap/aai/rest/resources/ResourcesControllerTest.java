@@ -66,6 +66,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import reactor.core.publisher.Mono;
@@ -146,6 +148,160 @@ public class ResourcesControllerTest {
             .isNotFound();
     }
 
+    @Test
+    public void thatUnchangedResourceReturnsNotModified() throws IOException {
+        String payload = getResourcePayload(getObjectName());
+        String uri = "/cloud-infrastructure/pservers/pserver/pserver-hostname-test";
+
+        webClient.put()
+            .uri(uri)
+            .bodyValue(payload)
+            .exchange()
+            .expectStatus()
+            .isCreated();
+
+        String etag = webClient.get()
+            .uri(uri + "?depth=0&nodes-only")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+
+        webClient.get()
+            .uri(uri + "?depth=0&nodes-only")
+            .header("If-None-Match", etag)
+            .exchange()
+            .expectStatus()
+            .isNotModified()
+            .expectHeader()
+            .valueEquals("ETag", etag)
+            .expectBody()
+            .isEmpty();
+
+        webClient.get()
+            .uri(uri + "?depth=0")
+            .header("If-None-Match", etag)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .doesNotExist("ETag");
+    }
+
+    @Test
+    public void thatChildrenAndRelationshipsAreNeverNotModified() throws IOException {
+        String payload = getResourcePayload(getObjectName());
+        String uri = "/cloud-infrastructure/pservers/pserver/pserver-hostname-test";
+
+        webClient.put()
+            .uri(uri)
+            .bodyValue(payload)
+            .exchange()
+            .expectStatus()
+            .isCreated();
+
+        webClient.get()
+            .uri(uri)
+            .header("If-None-Match", "*")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .doesNotExist("ETag");
+
+        webClient.get()
+            .uri(uri + "/relationship-list")
+            .header("If-None-Match", "*")
+            .exchange()
+            .expectHeader()
+            .doesNotExist("ETag");
+    }
+
+    @Test
+    public void thatRelationshipListIsNotModifiedUntilItsRelationshipsChange() throws IOException, JSONException {
+        String hostname = "590a8943-1200-43b3-825b-75dde6b8f44a";
+        String pserverUri = "/cloud-infrastructure/pservers/pserver/%s".formatted(hostname);
+        doSetupResource(pserverUri, getRelationshipPayload("pserver"));
+        doSetupResource("/cloud-infrastructure/complexes/complex/e13d4587-19ad-4bf5-80f5-c021efb5b61c",
+            getRelationshipPayload("complex"));
+        String relationshipData = getRelationshipPayload("pserver-complex-relationship");
+        webClient.put()
+            .uri(pserverUri + "/relationship-list/relationship")
+            .bodyValue(relationshipData)
+            .exchange()
+            .expectStatus()
+            .isOk();
+
+        String etag = webClient.get()
+            .uri(pserverUri + "/relationship-list")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+
+        webClient.get()
+            .uri(pserverUri + "/relationship-list")
+            .header("If-None-Match", etag)
+            .exchange()
+            .expectStatus()
+            .isNotModified();
+
+        webClient.method(HttpMethod.DELETE)
+            .uri(pserverUri + "/relationship-list/relationship")
+            .body(Mono.just(relationshipData), String.class)
+            .exchange()
+            .expectStatus()
+            .isNoContent();
+
+        webClient.get()
+            .uri(pserverUri + "/relationship-list")
+            .header("If-None-Match", etag)
+            .exchange()
+            .expectHeader()
+            .doesNotExist("ETag");
+    }
+
+    @Test
+    public void thatWriteWithStaleIfMatchFailsPrecondition() throws IOException {
+        String payload = getResourcePayload(getObjectName());
+        String uri = "/cloud-infrastructure/pservers/pserver/pserver-hostname-test";
+
+        webClient.put()
+            .uri(uri)
+            .bodyValue(payload)
+            .exchange()
+            .expectStatus()
+            .isCreated();
+
+        String etag = webClient.get()
+            .uri(uri + "?depth=0&nodes-only")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+
+        webClient.delete()
+            .uri(uri + "?resource-version=1")
+            .header("If-Match", "\"1\"")
+            .exchange()
+            .expectStatus()
+            .isEqualTo(412);
+
+        String resourceVersion = etag.substring(1, etag.lastIndexOf('-'));
+        webClient.delete()
+            .uri(uriBuilder -> uriBuilder.path(uri).queryParam("resource-version", resourceVersion).build())
+            .header("If-Match", etag)
+            .exchange()
+            .expectStatus()
+            .isNoContent();
+    }
+
     @Test
     public void testResponseGetOnResourcePaginated() throws JSONException, IOException, AAIException {
         JanusGraph graph = AAIGraph.getInstance().getGraph();
@@ -183,6 +339,163 @@ public class ResourcesControllerTest {
         assertTrue(pservers.getPserver().size() > 0);
     }
 
+    @Test
+    public void thatCursorPagesContinueWhereThePreviousPageStopped() {
+        JanusGraph graph = AAIGraph.getInstance().getGraph();
+        GraphTraversalSource g = graph.traversal();
+        for (int i = 1; i <= 3; i++) {
+            g.addV()
+                .property("aai-node-type", "pserver")
+                .property("hostname", "cursor-hostname" + i)
+                .property("resource-version", UUID.randomUUID().toString())
+                .property(AAIProperties.AAI_URI, "/cloud-infrastructure/pservers/pserver/cursor-hostname" + i)
+                .next();
+        }
+        g.tx().commit();
+
+        EntityExchangeResult<PServerListResponse> firstPage = webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/cloud-infrastructure/pservers")
+                .queryParam("resultSize", "2")
+                .queryParam("cursor", "")
+                .build())
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader().doesNotExist("total-results")
+            .expectBody(PServerListResponse.class)
+            .returnResult();
+        String cursor = firstPage.getResponseHeaders().getFirst("next-cursor");
+
+        PServerListResponse secondPage = webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/cloud-infrastructure/pservers")
+                .queryParam("resultSize", "2")
+                .queryParam("cursor", cursor)
+                .build())
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader().doesNotExist("next-cursor")
+            .expectBody(PServerListResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertEquals(2, firstPage.getResponseBody().getPserver().size());
+        assertEquals(1, secondPage.getPserver().size());
+    }
+
+    @Test
+    public void thatCursorsOfUnsupportedGetsAreRejected() {
+        webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/cloud-infrastructure/pservers")
+                .queryParam("resultSize", "2")
+                .queryParam("depth", "1")
+                .queryParam("cursor", "")
+                .build())
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/cloud-infrastructure/pservers")
+                .queryParam("resultSize", "2")
+                .queryParam("cursor", "")
+                .build())
+            .accept(MediaType.APPLICATION_XML)
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/cloud-infrastructure/pservers")
+                .queryParam("cursor", "")
+                .build())
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+    }
+
+    @Test
+    public void thatSparseFieldsReturnOnlyTheSelectedProperties() throws IOException, JSONException {
+        String payload = getResourcePayload(getObjectName());
+        String uri = "/cloud-infrastructure/pservers/pserver/pserver-hostname-test";
+
+        webClient.put()
+            .uri(uri)
+            .bodyValue(payload)
+            .exchange()
+            .expectStatus()
+            .isCreated();
+
+        String pserver = webClient.get()
+            .uri(uri + "?fields=hostname")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseBody()
+            .blockFirst();
+        JSONAssert.assertEquals("{\"hostname\":\"pserver-hostname-test\"}", pserver, true);
+
+        String pservers = webClient.get()
+            .uri("/cloud-infrastructure/pservers?fields=hostname")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseBody()
+            .blockFirst();
+        JSONAssert.assertEquals("{\"pserver\":[{\"hostname\":\"pserver-hostname-test\"}]}", pservers, true);
+
+        webClient.get()
+            .uri(uri + "?fields=unknown-property")
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+    }
+
+    @Test
+    public void thatSparseFieldsWithUnsupportedParametersAreRejected() throws IOException {
+        String payload = getResourcePayload(getObjectName());
+        String uri = "/cloud-infrastructure/pservers/pserver/pserver-hostname-test";
+
+        webClient.put()
+            .uri(uri)
+            .bodyValue(payload)
+            .exchange()
+            .expectStatus()
+            .isCreated();
+
+        webClient.get()
+            .uri(uri + "?fields=hostname&depth=1")
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        webClient.get()
+            .uri(uri + "?fields=hostname&nodes-only")
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        webClient.get()
+            .uri("/cloud-infrastructure/pservers?fields=hostname")
+            .accept(MediaType.APPLICATION_XML)
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        webClient.get()
+            .uri("/cloud-infrastructure/pservers?fields=hostname&resultIndex=1&resultSize=1")
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+    }
+
     @Test
     public void testPutPserverAndCloudRegionRelationship() throws IOException, JSONException {
 
@@ -0,0 +1,61 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.onap.aai.exceptions.AAIException;
+
+class RequestDeadlineTest {
+
+    @Test
+    void negativeTimeoutHasNoDeadline() throws AAIException {
+        RequestDeadline deadline = RequestDeadline.of(-1);
+
+        assertSame(RequestDeadline.NONE, deadline);
+        assertFalse(deadline.isExpired());
+        deadline.check();
+    }
+
+    @Test
+    void expiredDeadlineTimesOut() {
+        RequestDeadline deadline = RequestDeadline.of(0);
+
+        assertTrue(deadline.isExpired());
+        AAIException e = assertThrows(AAIException.class, deadline::check);
+        assertEquals("AAI_7406", e.getCode());
+    }
+
+    @Test
+    void passedDeadlineDoesNotInterruptTheThread() throws InterruptedException {
+        RequestDeadline deadline = RequestDeadline.of(50);
+
+        Thread.sleep(100);
+
+        assertTrue(deadline.isExpired());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.rest.util;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.UriInfo;
+
+import org.onap.aai.benchmark.BenchmarkSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidateEncodingBenchmark {
+
+    @Param({"v29/cloud-infrastructure/pservers/pserver/pserver-hostname-test",
+            "v29/cloud-infrastructure/cloud-regions/cloud-region/testOwner/testRegionOne/tenants/tenant/test-tenant-id"
+                    + "/vservers/vserver/vserver-id?depth=all&nodes-only=true&format=pathed"})
+    public String path;
+
+    private URI uri;
+
+    private UriInfo uriInfo;
+
+    @Setup
+    public void setup() {
+        uri = BenchmarkSupport.BASE_URI.resolve(path);
+        uriInfo = BenchmarkSupport.newRequest("GET", path, Collections.emptyMap(), null).getUriInfo();
+    }
+
+    @Benchmark
+    public boolean validateUri() throws UnsupportedEncodingException {
+        return ValidateEncoding.getInstance().validate(uri);
+    }
+
+    @Benchmark
+    public boolean validateUriInfo() throws UnsupportedEncodingException {
+        return ValidateEncoding.getInstance().validate(uriInfo);
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.rest.bulk.BulkJob;
+
+public class BulkJobServiceTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private BulkJobService bulkJobService;
+
+    @BeforeEach
+    public void setUp() {
+        bulkJobService = new BulkJobService(1, 5, 64 * 1024, 5, spoolDir.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bulkJobService.shutdown();
+    }
+
+    @Test
+    public void jobResultIsAvailableOnceTheWorkIsDone() throws AAIException, InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BulkJob job = bulkJobService.submit("bulkprocess", payload("{\"transactions\":[]}"), payload -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Response.status(Response.Status.CREATED).entity("{\"transaction\":[]}").build();
+        });
+
+        assertFalse(job.isDone());
+        assertEquals(job, bulkJobService.getJob(job.getId()).orElse(null));
+
+        release.countDown();
+        waitUntilDone(job);
+
+        JsonObject status = job.toJson();
+        assertEquals("completed", status.get("status").getAsString());
+        assertEquals(201, status.get("result-status").getAsInt());
+        assertTrue(status.getAsJsonObject("result").has("transaction"));
+    }
+
+    @Test
+    public void failingJobIsReportedAsFailed() throws AAIException, InterruptedException {
+        BulkJob job = bulkJobService.submit("single-transaction", payload("{}"), payload -> {
+            throw new IllegalStateException("broken");
+        });
+
+        waitUntilDone(job);
+
+        assertEquals(BulkJob.Status.FAILED, job.getStatus());
+        assertEquals("broken", job.toJson().get("error").getAsString());
+    }
+
+    @Test
+    public void jobReadsItsSpooledPayloadWhichIsDeletedAfterwards()
+            throws AAIException, InterruptedException, IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        BulkJob job = bulkJobService.submit("bulkprocess", payload("{\"transactions\":[]}"), payload -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Response.ok(new String(payload.readAllBytes(), StandardCharsets.UTF_8)).build();
+        });
+
+        assertEquals(1, spooledFiles(), "payload is spooled while the job is pending");
+        release.countDown();
+        waitUntilDone(job);
+
+        assertTrue(job.toJson().getAsJsonObject("result").has("transactions"));
+        long deadline = System.currentTimeMillis() + 10000;
+        while (spooledFiles() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, spooledFiles(), "spooled payload is deleted");
+    }
+
+    @Test
+    public void oldestJobIsEvictedOnceTheResultsExceedTheirLimit() throws AAIException, InterruptedException {
+        String result = "{\"raw\":\"" + "x".repeat(40 * 1024) + "\"}";
+        BulkJob first = bulkJobService.submit("bulkprocess", payload("{}"), payload -> Response.ok(result).build());
+        waitUntilDone(first);
+        BulkJob second = bulkJobService.submit("bulkprocess", payload("{}"), payload -> Response.ok(result).build());
+        // the single worker only runs this job once the second one was stored with its result
+        BulkJob third = bulkJobService.submit("bulkprocess", payload("{}"), payload -> Response.ok("{}").build());
+        waitUntilDone(third);
+
+        assertFalse(bulkJobService.getJob(first.getId()).isPresent(), "oldest result is evicted");
+        assertTrue(bulkJobService.getJob(second.getId()).isPresent(), "latest result is kept");
+    }
+
+    @Test
+    public void unknownJobIsNotFound() {
+        assertFalse(bulkJobService.getJob("unknown").isPresent());
+    }
+
+    private long spooledFiles() throws IOException {
+        try (var files = Files.list(spoolDir)) {
+            return files.count();
+        }
+    }
+
+    private InputStream payload(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void waitUntilDone(BulkJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!job.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isDone(), "job finished in time");
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.util.ResourcesConfig;
+
+class ConcurrencyLimitServiceTest {
+
+    private final ConcurrencyLimitService service = new ConcurrencyLimitService();
+
+    private static ResourcesConfig config(String appLimits, String globalLimit) {
+        Map<String, String> values = new HashMap<>();
+        values.put(ResourcesConfig.CONCURRENCY_LIMIT_ENABLED, "true");
+        values.put(ResourcesConfig.CONCURRENCY_LIMIT_APP, appLimits);
+        values.put(ResourcesConfig.CONCURRENCY_LIMIT_GLOBAL, globalLimit);
+        return ResourcesConfig.from((key, defaultValue) -> values.getOrDefault(key, defaultValue));
+    }
+
+    @Test
+    void disabledOrBypassedRequestsAreNotLimited() throws AAIException {
+        ResourcesConfig disabled = ResourcesConfig.from((key, defaultValue) -> defaultValue);
+        assertNull(service.acquire("SO", disabled));
+        assertNull(service.acquire("DCAE", config("DCAE,-1", "1")));
+    }
+
+    @Test
+    void clientOverItsLimitIsRejected() throws AAIException {
+        ResourcesConfig config = config("robot,2", "-1");
+        ConcurrencyLimitService.Permit first = service.acquire("robot", config);
+        assertNotNull(service.acquire("robot", config));
+
+        AAIException e = assertThrows(AAIException.class, () -> service.acquire("robot", config));
+        assertEquals("AAI_7407", e.getCode());
+        assertNotNull(service.acquire("SO", config));
+
+        first.release();
+        first.release();
+        assertNotNull(service.acquire("robot", config));
+        assertThrows(AAIException.class, () -> service.acquire("robot", config));
+    }
+
+    @Test
+    void clientsWithoutALimitOfTheirOwnShareTheDefaultOne() throws AAIException {
+        Map<String, String> values = new HashMap<>();
+        values.put(ResourcesConfig.CONCURRENCY_LIMIT_ENABLED, "true");
+        values.put(ResourcesConfig.CONCURRENCY_LIMIT_APP, "robot,1");
+        values.put(ResourcesConfig.CONCURRENCY_LIMIT_DEFAULT, "1");
+        ResourcesConfig config = ResourcesConfig.from((key, defaultValue) -> values.getOrDefault(key, defaultValue));
+
+        assertNotNull(service.acquire("random-1", config));
+        AAIException e = assertThrows(AAIException.class, () -> service.acquire("random-2", config));
+        assertEquals("AAI_7407", e.getCode());
+        assertThrows(AAIException.class, () -> service.acquire(null, config));
+        assertNotNull(service.acquire("robot", config));
+    }
+
+    @Test
+    void serviceOverTheGlobalLimitIsRejected() throws AAIException {
+        ResourcesConfig config = config("robot,1", "1");
+        ConcurrencyLimitService.Permit permit = service.acquire("SO", config);
+
+        AAIException e = assertThrows(AAIException.class, () -> service.acquire("robot", config));
+        assertEquals("AAI_7409", e.getCode());
+
+        permit.release();
+        assertEquals(0, service.getInFlight());
+        assertNotNull(service.acquire("robot", config));
+    }
+
+    @Test
+    void limitAdaptsToTheLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10);
+
+        limit.tryAcquire(10);
+        limit.complete(5000, false, 2, 10, 1000, 0.5);
+        assertEquals(5, limit.getLimit(10));
+
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire(10);
+        }
+        limit.complete(10, false, 2, 10, 1000, 0.5);
+        assertEquals(6, limit.getLimit(10));
+
+        limit.complete(10, true, 2, 10, 1000, 0.5);
+        limit.complete(10, true, 2, 10, 1000, 0.5);
+        assertEquals(2, limit.getLimit(10));
+        assertEquals(1, limit.getInFlight());
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.junit.jupiter.api.Test;
+
+class GetResponseCacheTest {
+
+    private static final String COMPLEX = "/cloud-infrastructure/complexes/complex/c1";
+
+    @Test
+    void entriesAreOnlyUsedForTheCachedResourceVersion() {
+        GetResponseCache cache = new GetResponseCache(true, 1024 * 1024, 60000);
+        String key = GetResponseCache.key(COMPLEX, "0", new MultivaluedHashMap<>(), "application/json");
+
+        cache.put(key, COMPLEX, cache.generation(COMPLEX), "1", "{}", "application/json");
+
+        assertEquals("{}", cache.get(key, "1").getEntity());
+        assertNull(cache.get(key, "2"));
+    }
+
+    @Test
+    void writesInvalidateTheObjectItsAncestorsAndItsDescendants() {
+        GetResponseCache cache = new GetResponseCache(true, 1024 * 1024, 60000);
+        String child = COMPLEX + "/ctag-pools/ctag-pool/p1/a1";
+        String other = "/cloud-infrastructure/complexes/complex/c10";
+        for (String uri : new String[] {COMPLEX, child, other}) {
+            cache.put(uri, uri, cache.generation(uri), "1", "{}", "application/json");
+        }
+
+        cache.invalidate(COMPLEX + "/ctag-pools/ctag-pool/p1");
+
+        assertNull(cache.get(COMPLEX, "1"));
+        assertNull(cache.get(child, "1"));
+        assertNotNull(cache.get(other, "1"));
+    }
+
+    @Test
+    void responsesReadBeforeAWriteAreNotCached() {
+        GetResponseCache cache = new GetResponseCache(true, 1024 * 1024, 60000);
+        long generation = cache.generation(COMPLEX);
+
+        cache.invalidate(COMPLEX);
+        cache.put(COMPLEX, COMPLEX, generation, "1", "{}", "application/json");
+
+        assertNull(cache.get(COMPLEX, "1"));
+    }
+
+    @Test
+    void requestsWithFilterParamsAreNotCached() {
+        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
+        params.add("depth", "1");
+        assertNotNull(GetResponseCache.key(COMPLEX, "1", params, "application/json"));
+
+        params.add("physical-location-id", "x");
+        assertNull(GetResponseCache.key(COMPLEX, "1", params, "application/json"));
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class GraphAccessLimiterTest {
+
+    @Test
+    void requestsOverTheLimitTimeOut() throws InterruptedException {
+        GraphAccessLimiter limiter = new GraphAccessLimiter(true, 1, 10);
+
+        GraphAccessLimiter.Permit permit = limiter.acquire();
+        assertNotNull(permit);
+        assertNull(limiter.acquire());
+
+        permit.release();
+        permit.release();
+        assertNotNull(limiter.acquire());
+        assertNull(limiter.acquire());
+    }
+}
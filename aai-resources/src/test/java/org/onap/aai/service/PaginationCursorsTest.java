@@ -0,0 +1,53 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.onap.aai.exceptions.AAIException;
+
+class PaginationCursorsTest {
+
+    private static final String PSERVER = "/cloud-infrastructure/pservers/pserver/host:1";
+
+    @Test
+    void tokensCarryTheLastObjectOfTheirPage() throws AAIException {
+        String token = PaginationCursors.encode("pservers", PSERVER);
+
+        assertEquals(PSERVER, PaginationCursors.decode(token, "pservers"));
+    }
+
+    @Test
+    void tokensOfAnotherQueryAreRejected() {
+        String token = PaginationCursors.encode("pservers", PSERVER);
+
+        assertThrows(AAIException.class, () -> PaginationCursors.decode(token, "complexes"));
+    }
+
+    @Test
+    void invalidTokensAreRejected() throws AAIException {
+        assertNull(PaginationCursors.decode("", "pservers"));
+        assertThrows(AAIException.class, () -> PaginationCursors.decode("not-a-cursor", "pservers"));
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.onap.aai.benchmark.BenchmarkSupport;
+import org.onap.aai.exceptions.AAIException;
+import org.onap.aai.introspection.Introspector;
+import org.onap.aai.introspection.Loader;
+import org.onap.aai.introspection.LoaderFactory;
+import org.onap.aai.introspection.ModelType;
+import org.onap.aai.restcore.HttpMethod;
+import org.onap.aai.restcore.MediaType;
+import org.onap.aai.schema.enums.ObjectMetadata;
+import org.onap.aai.setup.SchemaVersions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * The payload handling of a PUT in {@link ResourcesService}: unmarshalling, the empty object check,
+ * the introspector validation and the query parameter filtering of the GETs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourcesServiceBenchmark {
+
+    @Param({"pserver", "cloud-region", "customer"})
+    public String nodeType;
+
+    private AnnotationConfigApplicationContext context;
+    private ResourcesService resourcesService;
+    private Loader loader;
+    private String payload;
+    private URI uri;
+    private Introspector unmarshalled;
+    private MultivaluedMap<String, String> queryParams;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, AAIException {
+        context = BenchmarkSupport.startSchemaContext();
+        SchemaVersions schemaVersions = context.getBean(SchemaVersions.class);
+        loader = context.getBean(LoaderFactory.class).createLoaderForVersion(ModelType.MOXY,
+                schemaVersions.getDefaultVersion());
+        resourcesService = new ResourcesService();
+        payload = BenchmarkSupport.getPayload("payloads/resource/" + nodeType + ".json");
+        unmarshalled = loader.unmarshal(nodeType, payload, MediaType.APPLICATION_JSON_TYPE);
+        uri = UriBuilder.fromPath(unmarshalled.getMetadata(ObjectMetadata.NAMESPACE) + unmarshalled.getURI())
+                .build();
+
+        queryParams = new MultivaluedHashMap<>();
+        queryParams.add("depth", "all");
+        queryParams.add("nodes-only", "true");
+        queryParams.add("resultIndex", "1");
+        queryParams.add("resultSize", "10");
+        queryParams.add("hostname", "pserver-hostname-test");
+        queryParams.add("in-maint", "false");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Introspector unmarshal() throws AAIException {
+        return loader.unmarshal(nodeType, payload, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Benchmark
+    public boolean isEmptyObject() {
+        return resourcesService.isEmptyObject(unmarshalled);
+    }
+
+    @Benchmark
+    public Introspector validateIntrospector(FreshPayload fresh) throws AAIException, IOException {
+        resourcesService.validateIntrospector(fresh.obj, loader, uri, HttpMethod.PUT);
+        return fresh.obj;
+    }
+
+    @Benchmark
+    public MultivaluedMap<String, String> removeNonFilterableParams() {
+        return resourcesService.removeNonFilterableParams(queryParams);
+    }
+
+    /**
+     * The validation resolves issues in place, so every invocation gets a new copy of the payload.
+     */
+    @State(Scope.Thread)
+    public static class FreshPayload {
+
+        private Introspector obj;
+
+        @Setup(Level.Invocation)
+        public void unmarshal(ResourcesServiceBenchmark benchmark) throws AAIException {
+            obj = benchmark.loader.unmarshal(benchmark.nodeType, benchmark.payload, MediaType.APPLICATION_JSON_TYPE);
+        }
+    }
+}
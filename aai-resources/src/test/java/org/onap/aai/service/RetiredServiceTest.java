@@ -0,0 +1,98 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.aai.service.RetiredMatcher.Decision;
+
+public class RetiredServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void matcherCombinesThePatterns() {
+        RetiredMatcher matcher = new RetiredMatcher(
+                List.of(Pattern.compile("^/aai/v[78]/service-design-and-creation/models.*$"),
+                        Pattern.compile("^/aai/v([1-9]|1[0])/.*$")),
+                List.of(Pattern.compile("^/aai/v[0-9]+/search/edge-tag-query.*$")));
+
+        assertEquals(Decision.RETIRED, matcher.match("/aai/v8/service-design-and-creation/models/model/m1"));
+        assertEquals(Decision.RETIRED, matcher.match("/aai/v10/cloud-infrastructure/pservers"));
+        assertEquals(Decision.RETIRED_ALL_VERSIONS, matcher.match("/aai/v29/search/edge-tag-query"));
+        assertEquals(Decision.ACTIVE, matcher.match("/aai/v29/cloud-infrastructure/pservers"));
+        assertEquals(Decision.ACTIVE, matcher.match("/aai/v29/cloud-infrastructure/pservers"));
+    }
+
+    @Test
+    public void patternsAreReloadedWhenTheFileChanges() throws Exception {
+        File file = tempDir.resolve("retired.properties").toFile();
+        Files.writeString(file.toPath(), "retired.api.pattern.list=^/aai/v1/.*$\nretired.api.all.versions=\n",
+                StandardCharsets.UTF_8);
+
+        RetiredService retiredService = new RetiredService();
+        retiredService.setRetiredPatterns("^/aai/v1/.*$");
+        retiredService.setRetiredAllVersions("");
+        retiredService.setStartPath(tempDir.toString());
+        retiredService.setReloadIntervalMs(0);
+        retiredService.initialize();
+
+        RetiredMatcher matcher = retiredService.getMatcher();
+        assertEquals(Decision.ACTIVE, matcher.match("/aai/v29/network/generic-vnfs"));
+        assertSame(matcher, retiredService.getMatcher());
+
+        Files.writeString(file.toPath(),
+                "retired.api.pattern.list=^/aai/v1/.*$,^/aai/v29/network/.*$\nretired.api.all.versions=\n",
+                StandardCharsets.UTF_8);
+        file.setLastModified(file.lastModified() + 1000);
+
+        assertEquals(Decision.RETIRED, retiredService.getMatcher().match("/aai/v29/network/generic-vnfs"));
+        assertEquals(2, retiredService.getRetiredPatterns().size());
+    }
+
+    @Test
+    public void keysMissingFromTheReloadedFileKeepTheirStartupValues() throws Exception {
+        File file = tempDir.resolve("retired.properties").toFile();
+        RetiredService retiredService = new RetiredService();
+        retiredService.setRetiredPatterns("^/aai/v1/.*$");
+        retiredService.setRetiredAllVersions("^/aai/v[0-9]+/search/edge-tag-query.*$");
+        retiredService.setStartPath(tempDir.toString());
+        retiredService.setReloadIntervalMs(0);
+        retiredService.initialize();
+
+        Files.writeString(file.toPath(), "retired.api.pattern.list=^/aai/v2/.*$\n", StandardCharsets.UTF_8);
+
+        RetiredMatcher matcher = retiredService.getMatcher();
+        assertEquals(Decision.RETIRED, matcher.match("/aai/v2/network/generic-vnfs"));
+        assertEquals(Decision.RETIRED_ALL_VERSIONS, matcher.match("/aai/v29/search/edge-tag-query"));
+    }
+}
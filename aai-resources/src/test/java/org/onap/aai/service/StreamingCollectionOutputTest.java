@@ -0,0 +1,101 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import jakarta.ws.rs.WebApplicationException;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.introspection.Introspector;
+import org.onap.aai.introspection.Loader;
+import org.onap.aai.query.builder.QueryBuilder;
+import org.onap.aai.rest.util.RequestDeadline;
+import org.onap.aai.serialization.db.DBSerializer;
+import org.onap.aai.serialization.engines.TransactionalGraphEngine;
+
+class StreamingCollectionOutputTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void objectsAreWrittenAsTheyAreRead() throws Exception {
+        TransactionalGraphEngine dbEngine = mock(TransactionalGraphEngine.class);
+        Loader loader = mock(Loader.class);
+        QueryBuilder<Vertex> query = mock(QueryBuilder.class);
+        Introspector first = mock(Introspector.class);
+        Introspector second = mock(Introspector.class);
+        when(query.hasNext()).thenReturn(true, true, false);
+        when(query.next()).thenReturn(mock(Vertex.class));
+        when(loader.introspectorFromName("pserver")).thenReturn(first, second);
+        when(first.marshal(any())).thenReturn("{\"hostname\":\"a\"}");
+        when(second.marshal(any())).thenReturn("{\"hostname\":\"b\"}");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new StreamingCollectionOutput(mock(DBSerializer.class), loader, query, "pserver", "pserver", false, "false",
+                null, RequestDeadline.NONE, dbEngine::rollback).write(output);
+
+        assertEquals("{\"pserver\":[{\"hostname\":\"a\"},{\"hostname\":\"b\"}]}",
+                output.toString(StandardCharsets.UTF_8));
+        verify(dbEngine).rollback();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void expiredDeadlineStopsTheWriteWithoutInterruptingTheWriter() throws Exception {
+        TransactionalGraphEngine dbEngine = mock(TransactionalGraphEngine.class);
+        QueryBuilder<Vertex> query = mock(QueryBuilder.class);
+        when(query.hasNext()).thenReturn(true);
+        StreamingCollectionOutput output = new StreamingCollectionOutput(mock(DBSerializer.class),
+                mock(Loader.class), query, "pserver", "pserver", false, "false", null, RequestDeadline.of(0),
+                dbEngine::rollback);
+
+        assertThrows(WebApplicationException.class, () -> output.write(new ByteArrayOutputStream()));
+        assertFalse(Thread.currentThread().isInterrupted());
+        verify(query, never()).next();
+        verify(dbEngine).rollback();
+    }
+
+    @Test
+    void entityThatIsNeverWrittenRollsBackOnceWhenClosed() {
+        TransactionalGraphEngine dbEngine = mock(TransactionalGraphEngine.class);
+        StreamingCollectionOutput output = new StreamingCollectionOutput(mock(DBSerializer.class),
+                mock(Loader.class), Collections.emptyIterator(), "pserver", "pserver", false, "false", null,
+                RequestDeadline.NONE, dbEngine::rollback);
+
+        output.close();
+        output.close();
+
+        verify(dbEngine, times(1)).rollback();
+    }
+}
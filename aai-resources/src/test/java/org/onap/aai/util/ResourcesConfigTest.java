@@ -0,0 +1,87 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.aai.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class ResourcesConfigTest {
+
+    private static ResourcesConfig config(Map<String, String> values) {
+        return ResourcesConfig.from((key, defaultValue) -> values.getOrDefault(key, defaultValue));
+    }
+
+    @Test
+    void missingValuesUseTheDefaults() {
+        ResourcesConfig config = config(Map.of());
+
+        assertFalse(config.isTransactionLogging());
+        assertEquals(65536, config.getTransactionLoggingRequestMaxBytes());
+        assertEquals(1, config.getTransactionLoggingSampleRate());
+        assertTrue(config.getTransactionLoggingSampleSources().isEmpty());
+        assertNull(config.getNodeName());
+        assertEquals(30, config.getBulkConsumerLimit());
+        assertFalse(config.isBulkConsumerOverride("false"));
+        assertEquals(5, config.getBulkParallelMaxConcurrency());
+    }
+
+    @Test
+    void valuesAreParsed() {
+        ResourcesConfig config = config(Map.of(ResourcesConfig.TRANSACTION_LOGGING, "true",
+                ResourcesConfig.TRANSACTION_LOGGING_SAMPLE_SOURCES, "SO:0.1, robot:0",
+                AAIConstants.AAI_BULKCONSUMER_LIMIT, "50", AAIConstants.AAI_BULKCONSUMER_OVERRIDE_LIMIT, "6a4c",
+                ResourcesConfig.BULK_PARALLEL_MAX_CONCURRENCY, "many"));
+
+        assertTrue(config.isTransactionLogging());
+        assertEquals(Map.of("SO", 0.1, "robot", 0.0), config.getTransactionLoggingSampleSources());
+        assertEquals(50, config.getBulkConsumerLimit());
+        assertTrue(config.isBulkConsumerOverride("6a4c"));
+        assertFalse(config.isBulkConsumerOverride("other"));
+        assertFalse(config.isBulkConsumerOverride(null));
+        assertEquals(5, config.getBulkParallelMaxConcurrency());
+    }
+
+    @Test
+    void unchangedValuesKeepTheSnapshot() {
+        try (MockedStatic<AAIConfig> aaiConfig = mockStatic(AAIConfig.class)) {
+            aaiConfig.when(() -> AAIConfig.get(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+            ResourcesConfig.current();
+            ResourcesConfig.refresh();
+            ResourcesConfig snapshot = ResourcesConfig.current();
+
+            ResourcesConfig.refresh();
+
+            assertSame(snapshot, ResourcesConfig.current());
+        } finally {
+            ResourcesConfig.shutdown();
+        }
+    }
+}
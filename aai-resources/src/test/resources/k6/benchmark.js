@@ -0,0 +1,194 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2026 Deutsche Telekom. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+import http from "k6/http";
+import { check } from "k6";
+
+/*
+ * Benchmark scenarios against a graph seeded with GraphGeneratorTool (prefix bench):
+ * cloud-region:N_CLOUD_REGIONS,tenant:N_TENANTS,vserver:N_VSERVERS,l-interface:N_INTERFACES and pserver:N_PSERVERS.
+ * Only the requests tagged as measured count for the BENCHMARK_RESULT line printed at the end of the run.
+ */
+const scenario = `${__ENV.SCENARIO || "get-depth-1"}`;
+const baseUrl = `http://localhost:${__ENV.API_PORT || 8447}/aai/${__ENV.API_VERSION || "v29"}`;
+const basePath = `/aai/${__ENV.API_VERSION || "v29"}`;
+const nCloudRegions = parseInt(`${__ENV.N_CLOUD_REGIONS || 2}`, 10);
+const nTenants = parseInt(`${__ENV.N_TENANTS || 5}`, 10);
+const nVservers = parseInt(`${__ENV.N_VSERVERS || 10}`, 10);
+const nInterfaces = parseInt(`${__ENV.N_INTERFACES || 2}`, 10);
+const nPservers = parseInt(`${__ENV.N_PSERVERS || 100}`, 10);
+const pageSize = parseInt(`${__ENV.PAGE_SIZE || 10}`, 10);
+const bulkSize = parseInt(`${__ENV.BULK_SIZE || 10}`, 10);
+
+export const options = {
+  vus: parseInt(`${__ENV.VUS || 3}`, 10),
+  duration: `${__ENV.DURATION_SECONDS || 10}s`,
+  summaryTrendStats: ["med", "p(99)"],
+  thresholds: {
+    http_req_failed: ["rate<0.01"], // http errors should be less than 1%
+    "http_req_duration{measured:true}": ["p(99)<60000"],
+    "http_reqs{measured:true}": ["count>0"],
+  },
+  insecureSkipTLSVerify: true,
+};
+
+const encodedCredentials = "QUFJOkFBSQ==";
+const headers = {
+  Accept: "application/json",
+  "Content-Type": "application/json",
+  Authorization: `Basic ${encodedCredentials}`,
+  "X-FromAppId": "k6",
+  "X-TransactionId": "benchmark",
+};
+const measured = { headers: headers, tags: { measured: "true" } };
+const unmeasured = { headers: headers, tags: { measured: "false" } };
+
+function random(n) {
+  return Math.floor(Math.random() * n);
+}
+
+function cloudRegionUri(ordinal) {
+  const key = `bench-cloud-region-${ordinal}`;
+  return `/cloud-infrastructure/cloud-regions/cloud-region/${key}/${key}`;
+}
+
+function tenantUri(ordinal) {
+  return `${cloudRegionUri(Math.floor(ordinal / nTenants))}/tenants/tenant/bench-tenant-${ordinal}`;
+}
+
+function vserverUri(ordinal) {
+  return `${tenantUri(Math.floor(ordinal / nVservers))}/vservers/vserver/bench-vserver-${ordinal}`;
+}
+
+function interfaceUri(ordinal) {
+  return `${vserverUri(Math.floor(ordinal / nInterfaces))}/l-interfaces/l-interface/bench-l-interface-${ordinal}`;
+}
+
+function pserverUri(hostname) {
+  return `/cloud-infrastructure/pservers/pserver/${hostname}`;
+}
+
+function uniqueHostname() {
+  return `bench-${scenario}-${__VU}-${__ITER}-${Date.now()}`;
+}
+
+function getByUri(depth) {
+  const nTenantsTotal = nCloudRegions * nTenants;
+  const nVserversTotal = nTenantsTotal * nVservers;
+  const uris = [
+    () => cloudRegionUri(random(nCloudRegions)),
+    () => tenantUri(random(nTenantsTotal)),
+    () => vserverUri(random(nVserversTotal)),
+    () => interfaceUri(random(nVserversTotal * nInterfaces)),
+  ];
+  const res = http.get(baseUrl + uris[depth - 1]() + "?depth=0", measured);
+  check(res, { "status was 200": (r) => r.status == 200 });
+}
+
+function paginatedGet() {
+  const pages = Math.max(1, Math.floor(nPservers / pageSize));
+  const res = http.get(
+    `${baseUrl}/cloud-infrastructure/pservers?resultIndex=${1 + random(pages)}&resultSize=${pageSize}`, measured);
+  check(res, { "status was 200": (r) => r.status == 200 });
+}
+
+function putPatchDelete() {
+  const hostname = uniqueHostname();
+  const url = baseUrl + pserverUri(hostname);
+  let res = http.put(url, JSON.stringify({ hostname: hostname, "in-maint": false }), measured);
+  check(res, { "put status was 201": (r) => r.status == 201 });
+
+  const patchOpts = Object.assign({}, measured, {
+    headers: Object.assign({}, headers, { "Content-Type": "application/merge-patch+json" }),
+  });
+  res = http.patch(url, JSON.stringify({ fqdn: `${hostname}-fqdn` }), patchOpts);
+  check(res, { "patch status was 200": (r) => r.status == 200 });
+
+  res = http.get(url, unmeasured);
+  const resourceVersion = JSON.parse(res.body)["resource-version"];
+  res = http.del(`${url}?resource-version=${resourceVersion}`, null, measured);
+  check(res, { "delete status was 204": (r) => r.status == 204 });
+}
+
+function relationshipPut() {
+  const hostname = uniqueHostname();
+  const url = baseUrl + pserverUri(hostname);
+  http.put(url, JSON.stringify({ hostname: hostname, "in-maint": false }), unmeasured);
+  const nVserversTotal = nCloudRegions * nTenants * nVservers;
+  const relationship = {
+    "related-to": "vserver",
+    "related-link": basePath + vserverUri(random(nVserversTotal)),
+  };
+  const res = http.put(url + "/relationship-list/relationship", JSON.stringify(relationship), measured);
+  check(res, { "status was 200": (r) => r.status == 200 });
+}
+
+function bulkSingleTransaction() {
+  const operations = [];
+  for (let i = 0; i < bulkSize; i++) {
+    const hostname = `${uniqueHostname()}-${i}`;
+    operations.push({
+      action: "put",
+      uri: pserverUri(hostname),
+      body: { hostname: hostname, "in-maint": false },
+    });
+  }
+  const res = http.post(`${baseUrl}/bulk/single-transaction`, JSON.stringify({ operations: operations }), measured);
+  check(res, { "status was 201": (r) => r.status == 201 });
+}
+
+function bulkProcess() {
+  const transactions = [];
+  for (let i = 0; i < bulkSize; i++) {
+    const hostname = `${uniqueHostname()}-${i}`;
+    transactions.push({ put: [{ uri: pserverUri(hostname), body: { hostname: hostname, "in-maint": false } }] });
+  }
+  const res = http.put(`${baseUrl}/bulkprocess`, JSON.stringify({ transactions: transactions }), measured);
+  check(res, { "status was 201": (r) => r.status == 201 });
+}
+
+const scenarios = {
+  "get-depth-1": () => getByUri(1),
+  "get-depth-2": () => getByUri(2),
+  "get-depth-3": () => getByUri(3),
+  "get-depth-4": () => getByUri(4),
+  "paginated-get": paginatedGet,
+  "put-patch-delete": putPatchDelete,
+  "relationship-put": relationshipPut,
+  "bulk-single-transaction": bulkSingleTransaction,
+  "bulk-process": bulkProcess,
+};
+
+export default function () {
+  scenarios[scenario]();
+}
+
+export function handleSummary(data) {
+  const duration = data.metrics["http_req_duration{measured:true}"];
+  const requests = data.metrics["http_reqs{measured:true}"];
+  const failed = data.metrics["http_req_failed"];
+  const result = {
+    scenario: scenario,
+    p50: duration ? duration.values["med"] : null,
+    p99: duration ? duration.values["p(99)"] : null,
+    throughput: requests ? requests.values["rate"] : 0,
+    failedRate: failed ? failed.values["rate"] : 0,
+  };
+  return { stdout: `BENCHMARK_RESULT ${JSON.stringify(result)}\n` };
+}